@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -25,6 +26,9 @@ dependencies {
     implementation(libs.spring.boot.starter.web)
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.boot:spring-boot-starter-validation") // 이거를 다른것처럼 써봐
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -40,6 +44,18 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// JMH 마이크로 벤치마크 (src/jmh/java). ./gradlew jmh 결과는 릴리스 간 비교할 수 있도록 JSON으로 남긴다.
+jmh {
+    jmhVersion.set(libs.versions.jmh.core.get())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // 연산당 할당량(gc.alloc.rate.norm)도 함께 남긴다.
+    profilers.set(listOf("gc"))
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -50,5 +66,20 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+// @Tag("benchmark") 가 붙은 측정용 테스트는 ./gradlew benchmark 로 따로 실행한다.
+tasks.register<Test>("benchmark") {
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    testLogging {
+        showStandardStreams = true
+    }
 }
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+
+/**
+ * PointHistoryTable의 인위적인 지연(throttle)을 뺀 대역. 전역 목록을 훑는 조회 방식은 그대로 둔다.
+ */
+public class NoLatencyPointHistoryTable extends PointHistoryTable {
+
+	private final List<PointHistory> table = new ArrayList<>();
+	private long cursor = 1;
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+		table.add(pointHistory);
+		return pointHistory;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+	}
+}
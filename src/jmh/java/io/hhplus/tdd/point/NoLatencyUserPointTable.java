@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.database.UserPointTable;
+
+/**
+ * UserPointTable의 인위적인 지연(throttle)을 뺀 대역. 저장소 계층 자체의 비용만 재기 위해 사용한다.
+ */
+public class NoLatencyUserPointTable extends UserPointTable {
+
+	private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+	@Override
+	public UserPoint selectById(Long id) {
+		return table.getOrDefault(id, UserPoint.empty(id));
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+		table.put(id, userPoint);
+		return userPoint;
+	}
+}
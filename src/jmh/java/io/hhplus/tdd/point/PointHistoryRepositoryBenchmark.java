@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.history.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+
+/**
+ * PointHistoryRepository 구현체별 저장/조회 비용. 테이블 지연은 뺀 대역을 사용한다.
+ * 조회는 전체 rows 건 중 한 사용자(이력 rows / USERS 건)의 이력을 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryRepositoryBenchmark {
+
+	private static final int USERS = 1_000;
+
+	@Param({"table", "indexed", "columnar"})
+	public String repository;
+
+	@Param({"100000"})
+	public int rows;
+
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		pointHistoryRepository = switch (repository) {
+			case "table" -> new PointHistoryRepositoryImpl(new NoLatencyPointHistoryTable());
+			case "indexed" -> new IndexedPointHistoryRepository();
+			case "columnar" -> new ColumnarPointHistoryRepository();
+			default -> throw new IllegalArgumentException("알 수 없는 저장소입니다. 입력값: %s".formatted(repository));
+		};
+		for (int i = 0; i < rows; i++) {
+			pointHistoryRepository.saveUserPoint(i % USERS + 1, 100L, TransactionType.CHARGE, i);
+		}
+	}
+
+	@Benchmark
+	public PointHistory saveUserPoint() {
+		return pointHistoryRepository.saveUserPoint(randomUserId(), 100L, TransactionType.CHARGE, 0L);
+	}
+
+	@Benchmark
+	public List<PointHistory> findAllHistoryByUserId() {
+		return pointHistoryRepository.findAllHistoryByUserId(randomUserId());
+	}
+
+	/**
+	 * columnar 저장소는 PointHistory를 읽을 때 만들므로, 목록을 받기만 하는 위 측정과 달리 모든 행을 끝까지 읽는다.
+	 */
+	@Benchmark
+	public long sumHistoryAmountsOfUser() {
+		long sum = 0;
+		for (PointHistory history : pointHistoryRepository.findAllHistoryByUserId(randomUserId())) {
+			sum += history.amount();
+		}
+		return sum;
+	}
+
+	private long randomUserId() {
+		return ThreadLocalRandom.current().nextLong(1, USERS + 1);
+	}
+}
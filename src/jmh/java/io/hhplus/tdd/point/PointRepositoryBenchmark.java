@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.point.ledger.LedgerPointRepository;
+import io.hhplus.tdd.point.ledger.LedgerProperties;
+import io.hhplus.tdd.point.stamped.StampedPointRepository;
+
+/**
+ * PointRepository 구현체별 조회/저장 비용. 테이블 지연은 뺀 대역을 사용한다.
+ * 조회가 코어 수에 맞춰 늘어나는지는 -t 로 스레드 수를 바꿔가며 findById를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointRepositoryBenchmark {
+
+	private static final int USERS = 10_000;
+
+	@Param({"table", "ledger", "stamped"})
+	public String repository;
+
+	private PointRepository pointRepository;
+
+	@Setup
+	public void setUp() {
+		pointRepository = switch (repository) {
+			case "table" -> new PointRepositoryImpl(new NoLatencyUserPointTable());
+			case "ledger" -> new LedgerPointRepository(new NoLatencyUserPointTable(), new LedgerProperties(100));
+			case "stamped" -> new StampedPointRepository(new PointRepositoryImpl(new NoLatencyUserPointTable()));
+			default -> throw new IllegalArgumentException("알 수 없는 저장소입니다. 입력값: %s".formatted(repository));
+		};
+		for (long id = 1; id <= USERS; id++) {
+			pointRepository.saveOrUpdate(id, 1_000L);
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void flush() {
+		// write-behind 스레드 없이 측정하므로 쌓인 변경은 반복마다 비워준다.
+		if (pointRepository instanceof LedgerPointRepository ledger) {
+			ledger.flush();
+		}
+	}
+
+	@Benchmark
+	public UserPoint findById() {
+		return pointRepository.findById(randomUserId());
+	}
+
+	@Benchmark
+	public UserPoint saveOrUpdate() {
+		return pointRepository.saveOrUpdate(randomUserId(), 1_000L);
+	}
+
+	private long randomUserId() {
+		return ThreadLocalRandom.current().nextLong(1, USERS + 1);
+	}
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.point.lock.LockAdmissionProperties;
+import io.hhplus.tdd.point.lock.RefCountUserIdLockProvider;
+import io.hhplus.tdd.point.lock.UserIdLockAspect;
+import io.hhplus.tdd.point.lock.UserIdLockMetrics;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.NoOpPointJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PointService.chargePoint 를 @UserIdLock AOP 프록시를 거쳐 호출할 때와 락 없이 바로 호출할 때의 차이.
+ * 테이블 지연은 뺀 대역을 사용한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointServiceProxyBenchmark {
+
+	private PointService proxied;
+	private PointService direct;
+
+	@Setup
+	public void setUp() {
+		PointRepository pointRepository = new PointRepositoryImpl(new NoLatencyUserPointTable());
+		PointHistoryRepository pointHistoryRepository = new NoOpPointHistoryRepository();
+		PointCommandApplier applier = new PointCommandApplier(pointRepository, pointHistoryRepository,
+			new NoOpPointJournal(), new PointSummaryRepository());
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LockPointCommandExecutor(applier));
+		proxyFactory.setProxyTargetClass(true);
+		RefCountUserIdLockProvider userIdLockProvider = new RefCountUserIdLockProvider();
+		UserIdLockMetrics userIdLockMetrics = new UserIdLockMetrics(new SimpleMeterRegistry(), userIdLockProvider);
+		LockAdmissionProperties lockAdmissionProperties = new LockAdmissionProperties(Duration.ofMinutes(1), 100);
+		proxyFactory.addAspect(new UserIdLockAspect(userIdLockProvider, userIdLockMetrics, lockAdmissionProperties));
+		PointCommandExecutor proxiedExecutor = proxyFactory.getProxy();
+
+		IdempotencyCache idempotencyCache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(10)));
+		proxied = new PointService(pointRepository, pointHistoryRepository, proxiedExecutor, idempotencyCache);
+		// 프록시를 거치지 않으면 @UserIdLock은 아무 일도 하지 않는다.
+		direct = new PointService(pointRepository, pointHistoryRepository, new LockPointCommandExecutor(applier),
+			idempotencyCache);
+	}
+
+	@Benchmark
+	public UserPoint proxiedChargeAndUse() {
+		proxied.chargePoint(1L, 100L);
+		return proxied.usePoint(1L, 100L);
+	}
+
+	@Benchmark
+	public UserPoint directChargeAndUse() {
+		direct.chargePoint(1L, 100L);
+		return direct.usePoint(1L, 100L);
+	}
+
+	/**
+	 * 이력 목록이 계속 커지면 측정값이 GC에 좌우되므로 이력은 버린다.
+	 */
+	private static final class NoOpPointHistoryRepository implements PointHistoryRepository {
+
+		@Override
+		public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+			return new PointHistory(0L, userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> findAllHistoryByUserId(long userId) {
+			return List.of();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UserPoint 도메인 연산(charge/use) 한 번의 비용.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointBenchmark {
+
+	private final UserPoint userPoint = new UserPoint(1L, 50_000L, 0L);
+
+	@Benchmark
+	public UserPoint charge() {
+		return userPoint.charge(100L);
+	}
+
+	@Benchmark
+	public UserPoint use() {
+		return userPoint.use(100L);
+	}
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 응답 하나를 JSON으로 쓰는 비용. hand-tuned는 PointJsonHttpMessageConverter, jackson은 스프링 기본 컨버터다.
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op)으로 비교한다.
+ * 본문은 버리는 스트림에 쓰므로 소켓 비용은 들어가지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointJsonConverterBenchmark {
+
+	private static final Type HISTORIES_TYPE = ResolvableType.forClassWithGenerics(List.class, PointHistory.class)
+		.getType();
+
+	@Param({"hand-tuned", "jackson"})
+	public String converter;
+
+	@Param({"100"})
+	public int histories;
+
+	private GenericHttpMessageConverter<Object> messageConverter;
+	private final DiscardingOutputMessage outputMessage = new DiscardingOutputMessage();
+	private final UserPoint userPoint = new UserPoint(1L, 50_000L, 1_700_000_000_000L);
+	private final List<PointHistory> pointHistories = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		messageConverter = switch (converter) {
+			case "hand-tuned" -> new PointJsonHttpMessageConverter();
+			case "jackson" -> new MappingJackson2HttpMessageConverter();
+			default -> throw new IllegalArgumentException("알 수 없는 컨버터입니다. 입력값: %s".formatted(converter));
+		};
+		for (int i = 1; i <= histories; i++) {
+			TransactionType type = i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			pointHistories.add(new PointHistory(i, 1L, 1_000L, type, 1_700_000_000_000L + i));
+		}
+	}
+
+	@Benchmark
+	public long writeUserPoint() throws IOException {
+		messageConverter.write(userPoint, UserPoint.class, MediaType.APPLICATION_JSON, outputMessage);
+		return outputMessage.body.written;
+	}
+
+	@Benchmark
+	public long writePointHistories() throws IOException {
+		messageConverter.write(pointHistories, HISTORIES_TYPE, MediaType.APPLICATION_JSON, outputMessage);
+		return outputMessage.body.written;
+	}
+
+	private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+		private final DiscardingOutputStream body = new DiscardingOutputStream();
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+
+	/**
+	 * 쓴 바이트 수만 센다. 결과로 반환해 JIT가 쓰기를 없애지 못하게 한다.
+	 */
+	private static final class DiscardingOutputStream extends OutputStream {
+
+		private long written;
+
+		@Override
+		public void write(int b) {
+			written++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			written += len;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 스레드 8개가 동시에 getUserIdLock + lock/unlock 하는 비용.
+ * users=1 은 한 사용자에 요청이 몰리는 경우, users=100000 은 흩어진 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UserIdLockProviderBenchmark {
+
+	@Param({"map", "ref-count", "striped"})
+	public String strategy;
+
+	@Param({"1", "100000"})
+	public long users;
+
+	private UserIdLockProvider provider;
+
+	@Setup
+	public void setUp() {
+		provider = switch (strategy) {
+			case "map" -> new ConcurrentMapUserIdLockProvider();
+			case "ref-count" -> new RefCountUserIdLockProvider();
+			case "striped" -> new StripedUserIdLockProvider(new StripedLockProperties(1024));
+			default -> throw new IllegalArgumentException("알 수 없는 전략입니다. 입력값: %s".formatted(strategy));
+		};
+	}
+
+	@Benchmark
+	public void lockAndUnlock() {
+		Lock lock = provider.getUserIdLock(ThreadLocalRandom.current().nextLong(1, users + 1));
+		lock.lock();
+		lock.unlock();
+	}
+}
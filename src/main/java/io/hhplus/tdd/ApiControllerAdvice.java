@@ -1,15 +1,21 @@
 package io.hhplus.tdd;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import io.hhplus.tdd.point.lock.UserIdLockRejectedException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 
@@ -37,6 +43,22 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 		return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
 	}
 
+	@ExceptionHandler(value = UserIdLockRejectedException.class)
+	public ResponseEntity<ErrorResponse> handleUserIdLockRejectedException(UserIdLockRejectedException e) {
+		return ResponseEntity.status(429).body(new ErrorResponse("429", e.getMessage()));
+	}
+
+	@ExceptionHandler(value = RejectedExecutionException.class)
+	public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+		return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 지금은 처리할 수 없습니다."));
+	}
+
+	@Override
+	protected ResponseEntity<Object> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex,
+		HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+		return ResponseEntity.status(503).body(new ErrorResponse("503", "요청 처리 시간이 초과되었습니다."));
+	}
+
 	@ExceptionHandler(value = Exception.class)
 	public ResponseEntity<ErrorResponse> handleException(Exception e) {
 		return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
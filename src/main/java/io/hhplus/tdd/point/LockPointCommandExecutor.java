@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.point.lock.UserIdLock;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 사용자 락을 잡고 하나씩 반영한다. (기본 모드)
+ */
+@Component
+@ConditionalOnProperty(name = "point.write-mode", havingValue = "lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LockPointCommandExecutor implements PointCommandExecutor {
+
+	private final PointCommandApplier pointCommandApplier;
+
+	@Override
+	@UserIdLock
+	public UserPoint execute(long userId, PointCommand command) {
+		return pointCommandApplier.apply(userId, command);
+	}
+
+	@Override
+	@UserIdLock
+	public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands) {
+		return pointCommandApplier.apply(userId, commands);
+	}
+
+	/**
+	 * 기본 구현은 자신의 execute를 직접 불러 프록시의 @UserIdLock을 거치지 않으므로, submit에도 락을 건다.
+	 */
+	@Override
+	@UserIdLock
+	public CompletableFuture<UserPoint> submit(long userId, PointCommand command) {
+		return PointCommandExecutor.super.submit(userId, command);
+	}
+
+	@Override
+	@UserIdLock(keys = 2)
+	public PointTransferResult transfer(long fromId, long toId, long amount) {
+		return pointCommandApplier.transfer(fromId, toId, amount);
+	}
+}
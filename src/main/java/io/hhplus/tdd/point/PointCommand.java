@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 한 사용자에게 적용할 포인트 충전/사용 요청 하나를 표현한다.
+ */
+public record PointCommand(
+	TransactionType type,
+	long amount
+) {
+
+	public static PointCommand charge(long amount) {
+		return new PointCommand(TransactionType.CHARGE, amount);
+	}
+
+	public static PointCommand use(long amount) {
+		return new PointCommand(TransactionType.USE, amount);
+	}
+
+	public UserPoint applyTo(UserPoint userPoint) {
+		return switch (type) {
+			case CHARGE -> userPoint.charge(amount);
+			case USE -> userPoint.use(amount);
+		};
+	}
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.PointJournal;
+import io.hhplus.tdd.point.wal.PointJournalEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 사용자의 요청들을 순서대로 UserPoint에 반영한다.
+ * 잔고는 한 번 읽고, 읽은 값이 그대로일 때만 바꾸는 compareAndSet으로 한 번 쓴다. 이력은 성공한 요청마다 한 건씩 남긴다.
+ * 잔고를 바꾸기 전에 PointJournal에 기록하므로, 기록되지 않은 잔고는 누구에게도 보이지 않고 기록이 실패하면 아무것도 바뀌지 않는다.
+ * 이력은 잔고를 바꾼 뒤에 남기면서 사용자별 누계에도 더한다.
+ * 호출하는 쪽에서 해당 사용자의 락을 잡고 있어야 한다. 락을 거치지 않은 쓰기가 끼어들면 덮어쓰지 않고 IllegalStateException을 던진다.
+ * 이때는 기록한 변경이 잔고에 반영되지 않으므로 오류 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointCommandApplier {
+
+	private final PointRepository pointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointJournal pointJournal;
+	private final PointSummaryRepository pointSummaryRepository;
+
+	public UserPoint apply(long userId, PointCommand command) {
+		return apply(userId, List.of(command)).get(0).getOrThrow();
+	}
+
+	public List<PointCommandResult> apply(long userId, List<PointCommand> commands) {
+		UserPoint read = pointRepository.findById(userId);
+		UserPoint current = read;
+		List<PointCommandResult> results = new ArrayList<>(commands.size());
+		List<PointJournalEntry> accepted = new ArrayList<>(commands.size());
+
+		for (PointCommand command : commands) {
+			UserPoint next;
+			try {
+				next = command.applyTo(current);
+			} catch (IllegalArgumentException e) {
+				// 한도를 넘는 요청은 해당 요청만 거절하고 나머지는 계속 반영한다.
+				results.add(PointCommandResult.failure(e));
+				continue;
+			}
+			accepted.add(new PointJournalEntry(userId, command.type(), command.amount(), next.point(), next.updateMillis()));
+			current = next;
+			results.add(PointCommandResult.success(next));
+		}
+
+		if (accepted.isEmpty()) {
+			return results;
+		}
+		pointJournal.append(accepted);
+		compareAndSet(userId, read, current.point());
+		saveHistories(userId, accepted);
+		return results;
+	}
+
+	/**
+	 * fromId의 포인트를 amount 만큼 사용하고 toId에 같은 만큼 충전한다.
+	 * 두 사용자의 한도를 모두 확인한 뒤에 쓰므로 한쪽이라도 거절되면 아무것도 바뀌지 않는다.
+	 * 호출하는 쪽에서 서로 다른 두 사용자의 락을 모두 잡고 있어야 한다.
+	 */
+	public PointTransferResult transfer(long fromId, long toId, long amount) {
+		UserPoint fromRead = pointRepository.findById(fromId);
+		UserPoint toRead = pointRepository.findById(toId);
+		UserPoint from = fromRead.use(amount);
+		UserPoint to = toRead.charge(amount);
+
+		PointJournalEntry used = new PointJournalEntry(fromId, TransactionType.USE, amount, from.point(), from.updateMillis());
+		PointJournalEntry charged = new PointJournalEntry(toId, TransactionType.CHARGE, amount, to.point(), to.updateMillis());
+		pointJournal.append(List.of(used, charged));
+		UserPoint fromSaved = compareAndSet(fromId, fromRead, from.point());
+		try {
+			compareAndSet(toId, toRead, to.point());
+		} catch (IllegalStateException e) {
+			// 한쪽만 바뀐 채로 남지 않도록 fromId를 되돌리고, 되돌리지 못하면 함께 알린다.
+			if (pointRepository.compareAndSet(fromId, fromSaved, fromRead.point()) == null) {
+				log.error("이체를 반영하지 못한 뒤 잔고도 되돌리지 못했습니다. 사용자 id: {}", fromId);
+				e.addSuppressed(new IllegalStateException(
+					"이체를 반영하지 못한 뒤 잔고를 되돌리지 못했습니다. 사용자 id: %d".formatted(fromId)));
+			}
+			throw e;
+		}
+		saveHistories(fromId, List.of(used));
+		saveHistories(toId, List.of(charged));
+		return new PointTransferResult(from, to);
+	}
+
+	private UserPoint compareAndSet(long userId, UserPoint expected, long amount) {
+		UserPoint saved = pointRepository.compareAndSet(userId, expected, amount);
+		if (saved == null) {
+			log.error("PointJournal에 기록한 변경을 잔고에 반영하지 못했습니다. 사용자 id: {}", userId);
+			throw new IllegalStateException(
+				"잔고를 읽은 뒤 다른 쓰기가 먼저 반영되어 요청을 반영하지 않았습니다. 사용자 id: %d".formatted(userId));
+		}
+		return saved;
+	}
+
+	private void saveHistories(long userId, List<PointJournalEntry> entries) {
+		pointSummaryRepository.record(userId, entries, () -> {
+			for (PointJournalEntry entry : entries) {
+				pointHistoryRepository.saveUserPoint(userId, entry.amount(), entry.type(), entry.updateMillis());
+			}
+		});
+	}
+}
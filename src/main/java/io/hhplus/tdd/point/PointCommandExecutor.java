@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 충전/사용 요청을 어떤 방식으로 직렬화해서 반영할지 결정한다.
+ * point.write-mode 설정으로 구현체를 선택한다.
+ */
+public interface PointCommandExecutor {
+
+	UserPoint execute(long userId, PointCommand command);
+
+	/**
+	 * 한 사용자의 여러 요청을 락 한 번, 잔고 읽기/쓰기 한 번으로 순서대로 반영한다.
+	 * 요청마다 성공/실패가 따로 담긴다.
+	 */
+	List<PointCommandResult> executeAll(long userId, List<PointCommand> commands);
+
+	/**
+	 * fromId에서 toId로 포인트를 옮긴다. 두 사용자의 변경은 함께 반영되거나 함께 거절된다.
+	 */
+	PointTransferResult transfer(long fromId, long toId, long amount);
+
+	/**
+	 * 결과를 기다리지 않고 CompletableFuture로 받는다. 기본 구현은 호출한 스레드에서 execute를 실행한다.
+	 * 기본 구현은 this.execute를 부르므로, execute에 프록시(AOP)로 락 등을 거는 구현체는 submit도 같이 재정의해야 한다.
+	 */
+	default CompletableFuture<UserPoint> submit(long userId, PointCommand command) {
+		try {
+			return CompletableFuture.completedFuture(execute(userId, command));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+}
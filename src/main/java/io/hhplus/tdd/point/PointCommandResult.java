@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청 하나의 처리 결과. 성공하면 반영 직후의 UserPoint를, 거절되면 그 예외를 담는다.
+ */
+public record PointCommandResult(
+	UserPoint userPoint,
+	RuntimeException error
+) {
+
+	public static PointCommandResult success(UserPoint userPoint) {
+		return new PointCommandResult(userPoint, null);
+	}
+
+	public static PointCommandResult failure(RuntimeException error) {
+		return new PointCommandResult(null, error);
+	}
+
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	public UserPoint getOrThrow() {
+		if (error != null) {
+			throw error;
+		}
+		return userPoint;
+	}
+}
@@ -7,7 +7,11 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -17,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class PointController {
 
 	private static final Logger log = LoggerFactory.getLogger(PointController.class);
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 	private final PointService pointService;
 
 	/**
@@ -32,13 +37,34 @@ public class PointController {
 
 	/**
 	 * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+	 * from(포함) ~ to(미포함) 밀리초를 주면 그 시각의 이력만 시각 오름차순으로 조회한다.
 	 */
 	@GetMapping("{id}/histories")
 	public List<PointHistory> history(
 		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
-		long id
+		long id,
+		@RequestParam(required = false) @PositiveOrZero(message = "from은 0 이상의 정수여야 합니다.")
+		Long from,
+		@RequestParam(required = false) @PositiveOrZero(message = "to는 0 이상의 정수여야 합니다.")
+		Long to
+	) {
+		return pointService.findPointHistoriesOfUser(id, from, to);
+	}
+
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역을 최신순으로 limit 건씩 조회한다.
+	 * 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회한다.
+	 */
+	@GetMapping(value = "{id}/histories", params = "limit")
+	public PointHistoryPage historyPage(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id,
+		@RequestParam(required = false) @Positive(message = "cursor는 0 보다 큰 정수여야 합니다.")
+		Long cursor,
+		@RequestParam @Positive(message = "limit은 0 보다 큰 정수여야 합니다.") @Max(value = 1_000, message = "limit은 1000 이하여야 합니다.")
+		int limit
 	) {
-		return pointService.findPointHistoriesOfUser(id);
+		return pointService.findPointHistoryPageOfUser(id, cursor, limit);
 	}
 
 	/**
@@ -49,9 +75,11 @@ public class PointController {
 		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
 		long id,
 		@RequestBody @Positive(message = "충전할 포인트는 0 보다 큰 정수여야 합니다.")
-		long amount
+		long amount,
+		@RequestHeader(name = IDEMPOTENCY_KEY, required = false) @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.")
+		String idempotencyKey
 	) {
-		return pointService.chargePoint(id, amount);
+		return pointService.chargePoint(id, amount, idempotencyKey);
 	}
 
 	/**
@@ -62,8 +90,24 @@ public class PointController {
 		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
 		long id,
 		@RequestBody @Positive(message = "사용할 포인트는 0 보다 큰 정수여야 합니다.")
-		long amount
+		long amount,
+		@RequestHeader(name = IDEMPOTENCY_KEY, required = false) @Size(max = 255, message = "Idempotency-Key는 255자 이하여야 합니다.")
+		String idempotencyKey
+	) {
+		return pointService.usePoint(id, amount, idempotencyKey);
+	}
+
+	/**
+	 * 특정 유저의 포인트를 다른 유저에게 이체한다.
+	 * 보내는 쪽의 사용과 받는 쪽의 충전은 함께 반영되거나 함께 거절된다.
+	 */
+	@PatchMapping("{id}/transfer")
+	public PointTransferResult transfer(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id,
+		@RequestBody @Valid
+		PointTransferRequest request
 	) {
-		return pointService.usePoint(id, amount);
+		return pointService.transferPoint(id, request.toUserId(), request.amount());
 	}
 }
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+@Validated
+public class PointHistoryExportController {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final PointService pointService;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 특정 유저의 전체 포인트 이력을 한 줄에 하나씩 JSON(NDJSON)으로 내려준다.
+	 * 이력을 CHUNK_SIZE 건씩 읽어서 바로 응답 스트림에 쓰므로 이력이 많아도 메모리 사용량은 일정하다.
+	 * 클라이언트가 느리면 스트림 쓰기가 막히면서 다음 묶음도 그만큼 늦게 읽는다.
+	 */
+	@GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id,
+		@RequestParam(required = false) @PositiveOrZero(message = "from은 0 이상의 정수여야 합니다.")
+		Long from,
+		@RequestParam(required = false) @PositiveOrZero(message = "to는 0 이상의 정수여야 합니다.")
+		Long to
+	) {
+		if (from != null && to != null && from > to) {
+			throw new IllegalArgumentException("from은 to 보다 클 수 없습니다. from: %d, to: %d".formatted(from, to));
+		}
+		StreamingResponseBody body = outputStream -> write(id, from, to, outputStream);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+
+	private void write(long id, Long from, Long to, OutputStream outputStream) throws IOException {
+		// 행마다 flush 하지 않고 묶음 단위로만 flush 한다.
+		ObjectWriter writer = objectMapper.writerFor(PointHistory.class)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			pointService.exportPointHistoriesOfUser(id, from, to, CHUNK_SIZE, chunk -> {
+				try {
+					for (PointHistory history : chunk) {
+						writer.writeValue(generator, history);
+						generator.writeRaw('\n');
+					}
+					generator.flush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+}
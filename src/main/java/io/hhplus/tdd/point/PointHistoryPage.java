@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 최신순 이력 한 페이지. nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회하고, null 이면 마지막 페이지다.
+ */
+public record PointHistoryPage(
+	List<PointHistory> histories,
+	Long nextCursor
+) {
+
+	public static PointHistoryPage of(List<PointHistory> fetched, int limit) {
+		// limit + 1 건을 읽어서 한 건이 더 있으면 다음 페이지가 있는 것으로 본다.
+		if (fetched.size() <= limit) {
+			return new PointHistoryPage(fetched, null);
+		}
+		List<PointHistory> page = fetched.subList(0, limit);
+		return new PointHistoryPage(page, page.get(limit - 1).id());
+	}
+}
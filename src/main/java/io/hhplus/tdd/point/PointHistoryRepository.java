@@ -1,9 +1,46 @@
 package io.hhplus.tdd.point;
 
+import java.util.Comparator;
 import java.util.List;
 
 public interface PointHistoryRepository {
 	PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis);
 
 	List<PointHistory> findAllHistoryByUserId(long userId);
+
+	/**
+	 * id가 cursor 보다 작은 이력을 최신순(id 내림차순)으로 최대 limit 건 조회한다. cursor가 null 이면 가장 최신부터 조회한다.
+	 * 기본 구현은 전체 이력을 읽어서 자르므로, 사용자별 색인이 있는 저장소는 필요한 만큼만 읽도록 재정의한다.
+	 */
+	default List<PointHistory> findPageByUserId(long userId, Long cursor, int limit) {
+		return findAllHistoryByUserId(userId).stream()
+			.filter(history -> cursor == null || history.id() < cursor)
+			.sorted(Comparator.comparingLong(PointHistory::id).reversed())
+			.limit(limit)
+			.toList();
+	}
+
+	/**
+	 * id가 afterId 보다 큰 이력을 오래된 순(id 오름차순)으로 최대 limit 건 조회한다.
+	 * 전체 이력을 한 번에 올리지 않고 조금씩 끊어 읽을 때 사용한다.
+	 * 기본 구현은 chunk마다 전체 이력을 읽어 거르므로 끊어 읽는 의미가 없다. 구현체는 id 색인으로 필요한 만큼만 읽도록 재정의한다.
+	 */
+	default List<PointHistory> findChunkByUserId(long userId, long afterId, int limit) {
+		return findAllHistoryByUserId(userId).stream()
+			.filter(history -> history.id() > afterId)
+			.sorted(Comparator.comparingLong(PointHistory::id))
+			.limit(limit)
+			.toList();
+	}
+
+	/**
+	 * updateMillis가 from(포함) ~ to(미포함) 범위인 이력을 시각 오름차순(같으면 id 오름차순)으로 조회한다.
+	 * 기본 구현은 전체 이력을 읽어서 거르므로, 사용자별 시간순 색인이 있는 저장소는 범위만 읽도록 재정의한다.
+	 */
+	default List<PointHistory> findAllHistoryByUserIdBetween(long userId, long from, long to) {
+		return findAllHistoryByUserId(userId).stream()
+			.filter(history -> history.updateMillis() >= from && history.updateMillis() < to)
+			.sorted(Comparator.comparingLong(PointHistory::updateMillis))
+			.toList();
+	}
 }
@@ -1,25 +1,190 @@
 package io.hhplus.tdd.point;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * PointHistoryTable은 사용자의 전체 이력을 한 번에 돌려주는 조회만 있어서, 끊어 읽을 때마다 전체를 읽으면
+ * chunk 하나에 전체 이력만큼의 메모리와 시간이 든다.
+ * 그래서 테이블이 돌려준 행을 사용자별 id 오름차순으로 따로 들고 있다가 페이지 조회와 chunk 조회에 쓴다.
+ * 시간 범위 조회를 위해 같은 행을 updateMillis 순으로 정렬한 시간순 색인도 함께 들고 있다.
+ * 색인은 테이블과 같은 PointHistory 객체를 가리키므로 행마다 늘어나는 메모리는 참조 하나다.
+ * 테이블에는 이 저장소를 통해서만 쓰므로 색인과 테이블의 내용은 같다.
+ */
 @Repository
+@ConditionalOnProperty(name = "point.history.store", havingValue = "table", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
 
 	private final PointHistoryTable pointHistoryTable;
+	private final ConcurrentHashMap<Long, UserHistoryIndex> indexes = new ConcurrentHashMap<>();
 
 	@Override
 	public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
-		return pointHistoryTable.insert(userId, amount, type, updateMillis);
+		PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+		indexes.computeIfAbsent(userId, k -> new UserHistoryIndex()).add(pointHistory);
+		return pointHistory;
 	}
 
 	@Override
 	public List<PointHistory> findAllHistoryByUserId(long userId) {
 		return pointHistoryTable.selectAllByUserId(userId);
 	}
+
+	@Override
+	public List<PointHistory> findPageByUserId(long userId, Long cursor, int limit) {
+		UserHistoryIndex index = indexes.get(userId);
+		return index == null ? List.of() : index.page(cursor, limit);
+	}
+
+	@Override
+	public List<PointHistory> findChunkByUserId(long userId, long afterId, int limit) {
+		UserHistoryIndex index = indexes.get(userId);
+		return index == null ? List.of() : index.chunkAfter(afterId, limit);
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserIdBetween(long userId, long from, long to) {
+		UserHistoryIndex index = indexes.get(userId);
+		return index == null ? List.of() : index.between(from, to);
+	}
+
+	/**
+	 * 한 사용자의 이력을 id 오름차순으로 들고 있다.
+	 * 테이블 insert가 끝난 뒤에 넣으므로 동시에 저장하면 id 순서가 뒤바뀌어 들어올 수 있어, 그때만 제자리에 끼워 넣는다.
+	 * updateMillis는 호출하는 쪽이 정하므로 id 순서가 시각 순서와 같다는 보장이 없다.
+	 * 그래서 timeline에 같은 행을 updateMillis 오름차순(같으면 id 오름차순)으로 따로 정렬해 둔다.
+	 */
+	private static final class UserHistoryIndex {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private PointHistory[] rows = new PointHistory[8];
+		private PointHistory[] timeline = new PointHistory[8];
+		private int size;
+
+		void add(PointHistory pointHistory) {
+			lock.lock();
+			try {
+				if (size == rows.length) {
+					rows = Arrays.copyOf(rows, size << 1);
+					timeline = Arrays.copyOf(timeline, size << 1);
+				}
+				int position = size == 0 || rows[size - 1].id() < pointHistory.id()
+					? size
+					: lowerBound(pointHistory.id());
+				System.arraycopy(rows, position, rows, position + 1, size - position);
+				rows[position] = pointHistory;
+				int timePosition = size == 0 || isBefore(timeline[size - 1], pointHistory)
+					? size
+					: timePosition(pointHistory);
+				System.arraycopy(timeline, timePosition, timeline, timePosition + 1, size - timePosition);
+				timeline[timePosition] = pointHistory;
+				size++;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * id가 cursor 보다 작은 이력을 최신순으로 최대 limit 건 복사한다.
+		 */
+		List<PointHistory> page(Long cursor, int limit) {
+			lock.lock();
+			try {
+				int end = cursor == null ? size : lowerBound(cursor);
+				int count = Math.min(limit, end);
+				PointHistory[] page = new PointHistory[count];
+				for (int i = 0; i < count; i++) {
+					page[i] = rows[end - 1 - i];
+				}
+				return List.of(page);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		List<PointHistory> chunkAfter(long afterId, int limit) {
+			lock.lock();
+			try {
+				int start = lowerBound(afterId + 1);
+				int count = Math.min(limit, size - start);
+				return List.of(Arrays.copyOfRange(rows, start, start + count));
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * updateMillis가 from(포함) ~ to(미포함) 범위인 이력을 시각 오름차순으로 복사한다.
+		 * 범위의 양 끝은 시간순 색인에서 이진 탐색으로 찾으므로 범위 밖의 이력은 읽지 않는다.
+		 */
+		List<PointHistory> between(long from, long to) {
+			lock.lock();
+			try {
+				int start = timeLowerBound(from);
+				int end = Math.max(start, timeLowerBound(to));
+				return List.of(Arrays.copyOfRange(timeline, start, end));
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		// id가 id 이상인 첫 위치
+		private int lowerBound(long id) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (rows[mid].id() < id) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		// 시간순 색인에서 updateMillis가 millis 이상인 첫 위치
+		private int timeLowerBound(long millis) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (timeline[mid].updateMillis() < millis) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		// 시간순 색인에서 pointHistory 보다 뒤에 와야 하는 첫 위치
+		private int timePosition(PointHistory pointHistory) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (isBefore(timeline[mid], pointHistory)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private static boolean isBefore(PointHistory left, PointHistory right) {
+			return left.updateMillis() < right.updateMillis()
+				|| left.updateMillis() == right.updateMillis() && left.id() < right.id();
+		}
+	}
 }
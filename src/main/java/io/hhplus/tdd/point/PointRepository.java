@@ -4,4 +4,13 @@ public interface PointRepository {
 	UserPoint findById(long id);
 
 	UserPoint saveOrUpdate(long id, long amount);
+
+	/**
+	 * 잔고가 읽어 둔 expected와 같을 때만 amount로 바꾸고 저장된 값을 반환한다. 그 사이 다른 쓰기가 있었으면 바꾸지 않고 null을 반환한다.
+	 * 기본 구현은 호출하는 쪽이 사용자 락을 잡고 있어 읽은 뒤 다른 쓰기가 없다고 보고 그대로 쓴다.
+	 * 락 밖의 쓰기도 막아야 하는 저장소(ledger)는 CAS로 재정의한다.
+	 */
+	default UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+		return saveOrUpdate(id, amount);
+	}
 }
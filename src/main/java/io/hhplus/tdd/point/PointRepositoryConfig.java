@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.hhplus.tdd.point.cache.CachingPointRepository;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.flight.SingleFlightPointRepository;
+import io.hhplus.tdd.point.stamped.StampedPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 저장소 구현체(@Repository)를 감싸는 PointRepository를 등록한다.
+ * 감싼 빈은 @Primary 이므로 PointService 등에는 감싼 쪽이 주입된다.
+ */
+@Configuration
+public class PointRepositoryConfig {
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "point.cache.enabled", havingValue = "true")
+	public CachingPointRepository cachingPointRepository(
+		PointRepository pointStore,
+		PointCacheProperties pointCacheProperties
+	) {
+		return new CachingPointRepository(pointStore, pointCacheProperties);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "point.read-mode", havingValue = "stamped")
+	public StampedPointRepository stampedPointRepository(PointRepository pointStore) {
+		return new StampedPointRepository(pointStore);
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "point.read-mode", havingValue = "single-flight")
+	public SingleFlightPointRepository singleFlightPointRepository(
+		PointRepository pointStore,
+		MeterRegistry meterRegistry
+	) {
+		return new SingleFlightPointRepository(pointStore, meterRegistry);
+	}
+}
@@ -1,13 +1,13 @@
 package io.hhplus.tdd.point;
 
-import java.util.List;
-
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import lombok.RequiredArgsConstructor;
 
 @Repository
+@ConditionalOnProperty(name = "point.repository", havingValue = "table", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PointRepositoryImpl implements PointRepository {
 
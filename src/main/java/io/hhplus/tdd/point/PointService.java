@@ -1,12 +1,12 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
-import io.hhplus.tdd.point.lock.UserIdLock;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,31 +17,86 @@ public class PointService {
 
 	private final PointRepository pointRepository;
 	private final PointHistoryRepository pointHistoryRepository;
+	private final PointCommandExecutor pointCommandExecutor;
+	private final IdempotencyCache idempotencyCache;
 
 	public UserPoint findPointById(long id) {
 		return pointRepository.findById(id);
 	}
 
-	@UserIdLock
 	public UserPoint chargePoint(long id, long amount) {
-		UserPoint findUserPoint = pointRepository.findById(id);
-
-		UserPoint charged = findUserPoint.charge(amount);
-		pointHistoryRepository.saveUserPoint(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
-		return pointRepository.saveOrUpdate(charged.id(), charged.point());
+		return chargePoint(id, amount, null);
 	}
 
-	@UserIdLock
 	public UserPoint usePoint(long id, long amount) {
-		UserPoint findUserPoint = pointRepository.findById(id);
+		return usePoint(id, amount, null);
+	}
+
+	/**
+	 * 같은 사용자에게 같은 idempotencyKey로 다시 온 요청은 반영하지 않고 처음 결과를 돌려준다.
+	 */
+	public UserPoint chargePoint(long id, long amount, String idempotencyKey) {
+		return execute(id, PointCommand.charge(amount), idempotencyKey);
+	}
+
+	public UserPoint usePoint(long id, long amount, String idempotencyKey) {
+		return execute(id, PointCommand.use(amount), idempotencyKey);
+	}
 
-		UserPoint user = findUserPoint.use(amount);
-		pointHistoryRepository.saveUserPoint(id, amount, TransactionType.USE, System.currentTimeMillis());
+	private UserPoint execute(long id, PointCommand command, String idempotencyKey) {
+		return idempotencyCache.execute(id, idempotencyKey, command, () -> pointCommandExecutor.execute(id, command));
+	}
 
-		return pointRepository.saveOrUpdate(user.id(), user.point());
+	public PointTransferResult transferPoint(long fromId, long toId, long amount) {
+		if (fromId == toId) {
+			throw new IllegalArgumentException("같은 사용자에게는 이체할 수 없습니다. 사용자 id: %d".formatted(fromId));
+		}
+		return pointCommandExecutor.transfer(fromId, toId, amount);
 	}
 
 	public List<PointHistory> findPointHistoriesOfUser(long userId) {
 		return pointHistoryRepository.findAllHistoryByUserId(userId);
 	}
+
+	/**
+	 * from(포함) ~ to(미포함) 시각의 이력을 시각 오름차순으로 조회한다. 둘 다 없으면 전체 이력을 조회한다.
+	 */
+	public List<PointHistory> findPointHistoriesOfUser(long userId, Long from, Long to) {
+		if (from == null && to == null) {
+			return findPointHistoriesOfUser(userId);
+		}
+		long start = from == null ? 0L : from;
+		long end = to == null ? Long.MAX_VALUE : to;
+		if (start > end) {
+			throw new IllegalArgumentException("from은 to 보다 클 수 없습니다. from: %d, to: %d".formatted(start, end));
+		}
+		return pointHistoryRepository.findAllHistoryByUserIdBetween(userId, start, end);
+	}
+
+	/**
+	 * 사용자의 전체 이력을 오래된 순으로 chunkSize 건씩 끊어서 consumer에 넘긴다.
+	 * from(포함) ~ to(미포함) 범위를 주면 그 시각에 해당하는 이력만 넘긴다.
+	 * 저장소가 findChunkByUserId를 id 색인으로 재정의했으므로(table, indexed, columnar 모두) 한 번에 chunkSize 건만 메모리에 올라간다.
+	 * 시각 범위는 읽은 chunk마다 거르므로, 범위가 좁아도 읽는 시간은 사용자의 전체 이력 수에 비례한다.
+	 */
+	public void exportPointHistoriesOfUser(long userId, Long from, Long to, int chunkSize,
+		Consumer<List<PointHistory>> consumer) {
+		long afterId = 0;
+		List<PointHistory> chunk;
+		do {
+			chunk = pointHistoryRepository.findChunkByUserId(userId, afterId, chunkSize);
+			if (chunk.isEmpty()) {
+				return;
+			}
+			afterId = chunk.get(chunk.size() - 1).id();
+			consumer.accept(chunk.stream()
+				.filter(history -> from == null || history.updateMillis() >= from)
+				.filter(history -> to == null || history.updateMillis() < to)
+				.toList());
+		} while (chunk.size() == chunkSize);
+	}
+
+	public PointHistoryPage findPointHistoryPageOfUser(long userId, Long cursor, int limit) {
+		return PointHistoryPage.of(pointHistoryRepository.findPageByUserId(userId, cursor, limit + 1), limit);
+	}
 }
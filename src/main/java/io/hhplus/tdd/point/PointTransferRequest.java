@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+import jakarta.validation.constraints.Positive;
+
+public record PointTransferRequest(
+	@Positive(message = "받는 사용자 id는 0 보다 큰 정수여야 합니다.")
+	long toUserId,
+	@Positive(message = "이체할 포인트는 0 보다 큰 정수여야 합니다.")
+	long amount
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 이체를 반영한 직후 보내는 사용자(from)와 받는 사용자(to)의 포인트.
+ */
+public record PointTransferResult(
+	UserPoint from,
+	UserPoint to
+) {
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointController의 충전/사용과 같지만 servlet 스레드를 바로 돌려주는 비동기 버전.
+ * 요청마다 point.async.timeout 안에 끝나지 않으면 503으로 응답한다.
+ * 이미 실행을 시작한 요청은 제한 시간이 지나도 끝까지 반영될 수 있다.
+ */
+@RestController
+@RequestMapping("/point/async")
+@RequiredArgsConstructor
+@Validated
+public class AsyncPointController {
+
+	private final AsyncPointService asyncPointService;
+	private final AsyncPointProperties asyncPointProperties;
+
+	@PatchMapping("{id}/charge")
+	public DeferredResult<UserPoint> charge(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id,
+		@RequestBody @Positive(message = "충전할 포인트는 0 보다 큰 정수여야 합니다.")
+		long amount
+	) {
+		return defer(asyncPointService.chargePoint(id, amount));
+	}
+
+	@PatchMapping("{id}/use")
+	public DeferredResult<UserPoint> use(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id,
+		@RequestBody @Positive(message = "사용할 포인트는 0 보다 큰 정수여야 합니다.")
+		long amount
+	) {
+		return defer(asyncPointService.usePoint(id, amount));
+	}
+
+	private DeferredResult<UserPoint> defer(CompletableFuture<UserPoint> future) {
+		DeferredResult<UserPoint> result = new DeferredResult<>(asyncPointProperties.timeout().toMillis());
+		result.onTimeout(() -> {
+			// 503 응답을 먼저 정해야 취소로 인한 CancellationException이 결과가 되지 않는다.
+			result.setErrorResult(new AsyncRequestTimeoutException());
+			future.cancel(false);
+		});
+		future.whenComplete((userPoint, error) -> {
+			if (error != null) {
+				result.setErrorResult(error);
+			} else {
+				result.setResult(userPoint);
+			}
+		});
+		return result;
+	}
+}
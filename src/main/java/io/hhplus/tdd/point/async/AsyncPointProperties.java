@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.async;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * threads개의 스레드가 최대 queueCapacity개까지 대기열에 쌓인 요청을 처리한다.
+ * 대기열이 가득 차거나 요청이 timeout 안에 끝나지 않으면 503으로 응답한다.
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record AsyncPointProperties(
+	@DefaultValue("16") int threads,
+	@DefaultValue("1000") int queueCapacity,
+	@DefaultValue("3s") Duration timeout
+) {
+
+	public AsyncPointProperties {
+		if (threads <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException(
+				"threads, queueCapacity는 0 보다 커야 합니다. 입력값: %d, %d".formatted(threads, queueCapacity));
+		}
+		if (timeout.isNegative() || timeout.isZero()) {
+			throw new IllegalArgumentException("timeout은 0 보다 커야 합니다. 입력값: %s".formatted(timeout));
+		}
+	}
+}
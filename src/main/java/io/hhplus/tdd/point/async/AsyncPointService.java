@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.async;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 충전/사용을 servlet 스레드가 아닌 전용 스레드 풀에서 실행한다.
+ * 풀과 대기열의 크기가 정해져 있으므로 특정 사용자에게 요청이 몰려도 servlet 스레드는 묶이지 않는다.
+ * 반환한 CompletableFuture를 취소하면 아직 시작하지 않은 요청은 실행하지 않는다.
+ */
+@Service
+public class AsyncPointService {
+
+	private final PointCommandExecutor pointCommandExecutor;
+	private final ThreadPoolExecutor executor;
+
+	public AsyncPointService(PointCommandExecutor pointCommandExecutor, AsyncPointProperties asyncPointProperties) {
+		this.pointCommandExecutor = pointCommandExecutor;
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(asyncPointProperties.threads(), asyncPointProperties.threads(),
+			0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(asyncPointProperties.queueCapacity()), runnable -> {
+			Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void close() {
+		executor.shutdown();
+	}
+
+	public CompletableFuture<UserPoint> chargePoint(long id, long amount) {
+		return submit(id, PointCommand.charge(amount));
+	}
+
+	public CompletableFuture<UserPoint> usePoint(long id, long amount) {
+		return submit(id, PointCommand.use(amount));
+	}
+
+	private CompletableFuture<UserPoint> submit(long id, PointCommand command) {
+		CompletableFuture<UserPoint> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				// 기다리는 사이에 제한 시간이 지나 취소된 요청은 실행하지 않는다.
+				if (result.isDone()) {
+					return;
+				}
+				// partition 모드처럼 submit이 바로 반환되는 경우에는 이 스레드도 곧바로 풀려난다.
+				CompletableFuture<UserPoint> submitted;
+				try {
+					submitted = pointCommandExecutor.submit(id, command);
+				} catch (Throwable e) {
+					// lock 모드의 락 대기 거절처럼 future를 돌려주기 전에 던진 예외도 요청의 결과로 넘긴다.
+					result.completeExceptionally(e);
+					return;
+				}
+				submitted.whenComplete((userPoint, error) -> {
+					if (error != null) {
+						result.completeExceptionally(unwrap(error));
+					} else {
+						result.complete(userPoint);
+					}
+				});
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	private Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+}
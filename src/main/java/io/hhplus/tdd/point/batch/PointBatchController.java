@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+@Validated
+public class PointBatchController {
+
+	private final PointBatchService pointBatchService;
+
+	/**
+	 * 여러 사용자의 포인트 충전/사용 요청을 한 번에 처리한다.
+	 * 요청마다 성공/실패 결과가 operations와 같은 순서로 담긴다.
+	 */
+	@PostMapping("batch")
+	public PointBatchResponse batch(@RequestBody @Valid PointBatchRequest request) {
+		return new PointBatchResponse(pointBatchService.execute(request.operations()));
+	}
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record PointBatchOperation(
+	@Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+	long userId,
+	@NotNull(message = "type은 CHARGE 또는 USE 여야 합니다.")
+	TransactionType type,
+	@Positive(message = "포인트는 0 보다 큰 정수여야 합니다.")
+	long amount
+) {
+
+	public PointCommand toCommand() {
+		return new PointCommand(type, amount);
+	}
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+	@DefaultValue("16") int parallelism
+) {
+
+	public PointBatchProperties {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism은 0 보다 커야 합니다. 입력값: %d".formatted(parallelism));
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.batch;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record PointBatchRequest(
+	@NotEmpty(message = "operations는 비어있을 수 없습니다.")
+	@Size(max = 10_000, message = "operations는 한 번에 10000건까지 보낼 수 있습니다.")
+	List<@Valid PointBatchOperation> operations
+) {
+}
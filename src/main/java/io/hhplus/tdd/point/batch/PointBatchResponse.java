@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.batch;
+
+import java.util.List;
+
+/**
+ * results는 요청의 operations와 같은 순서로 담긴다.
+ */
+public record PointBatchResponse(
+	List<PointBatchResult> results
+) {
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 요청 하나의 처리 결과. 성공하면 반영 직후의 userPoint를, 실패하면 error를 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PointBatchResult(
+	long userId,
+	TransactionType type,
+	long amount,
+	boolean success,
+	UserPoint userPoint,
+	String error
+) {
+
+	public static PointBatchResult of(PointBatchOperation operation, PointCommandResult result) {
+		if (result.isSuccess()) {
+			return new PointBatchResult(operation.userId(), operation.type(), operation.amount(), true,
+				result.userPoint(), null);
+		}
+		// ApiControllerAdvice와 같이 요청 값 때문에 거절된 경우에만 원래 메시지를 내려준다.
+		String error = result.error() instanceof IllegalArgumentException
+			? result.error().getMessage()
+			: "에러가 발생했습니다.";
+		return new PointBatchResult(operation.userId(), operation.type(), operation.amount(), false, null, error);
+	}
+}
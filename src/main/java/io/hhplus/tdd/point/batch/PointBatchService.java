@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointCommandResult;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 사용자의 충전/사용 요청을 한 번에 처리한다.
+ * 요청을 사용자별로 묶어서 서로 다른 사용자는 병렬로, 같은 사용자는 들어온 순서대로 처리한다.
+ * 같은 사용자의 요청은 PointCommandExecutor.executeAll로 락 한 번, 잔고 읽기/쓰기 한 번에 반영된다.
+ */
+@Service
+public class PointBatchService {
+
+	private final PointCommandExecutor pointCommandExecutor;
+	private final ExecutorService batchExecutor;
+
+	public PointBatchService(PointCommandExecutor pointCommandExecutor, PointBatchProperties pointBatchProperties) {
+		this.pointCommandExecutor = pointCommandExecutor;
+		AtomicInteger sequence = new AtomicInteger();
+		this.batchExecutor = Executors.newFixedThreadPool(pointBatchProperties.parallelism(), runnable -> {
+			Thread thread = new Thread(runnable, "point-batch-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void close() {
+		batchExecutor.shutdown();
+	}
+
+	public List<PointBatchResult> execute(List<PointBatchOperation> operations) {
+		Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+		for (int i = 0; i < operations.size(); i++) {
+			indexesByUser.computeIfAbsent(operations.get(i).userId(), k -> new ArrayList<>()).add(i);
+		}
+
+		PointBatchResult[] results = new PointBatchResult[operations.size()];
+		CompletableFuture<?>[] futures = indexesByUser.entrySet().stream()
+			.map(entry -> CompletableFuture.runAsync(
+				() -> executeUser(entry.getKey(), entry.getValue(), operations, results), batchExecutor))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).join();
+		return Arrays.asList(results);
+	}
+
+	private void executeUser(long userId, List<Integer> indexes, List<PointBatchOperation> operations,
+		PointBatchResult[] results) {
+		List<PointCommand> commands = indexes.stream()
+			.map(index -> operations.get(index).toCommand())
+			.toList();
+
+		List<PointCommandResult> commandResults;
+		try {
+			commandResults = pointCommandExecutor.executeAll(userId, commands);
+		} catch (RuntimeException e) {
+			commandResults = commands.stream().map(command -> PointCommandResult.failure(e)).toList();
+		}
+
+		for (int i = 0; i < indexes.size(); i++) {
+			int index = indexes.get(i);
+			results[index] = PointBatchResult.of(operations.get(index), commandResults.get(i));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * findById 앞에 크기 제한이 있는 캐시(Caffeine, W-TinyLFU)를 둔다.
+ * 캐시에 없을 때만 저장소를 읽고, saveOrUpdate가 성공하면 저장된 값으로 캐시를 바로 갱신한다.
+ */
+public class CachingPointRepository implements PointRepository {
+
+	private final PointRepository delegate;
+	private final Cache<Long, UserPoint> cache;
+
+	public CachingPointRepository(PointRepository delegate, PointCacheProperties properties) {
+		this.delegate = delegate;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.expireAfterWrite())
+			.recordStats()
+			.build();
+	}
+
+	@Override
+	public UserPoint findById(long id) {
+		UserPoint cached = cache.getIfPresent(id);
+		if (cached != null) {
+			return cached;
+		}
+		// cache.get(id, loader)는 ConcurrentHashMap 버킷을 잠근 채 loader를 실행해서
+		// 가상 스레드라면 저장소를 기다리는 동안 캐리어 스레드를 붙잡는다. 그래서 조회는 밖에서 하고 결과만 넣는다.
+		// 그 사이 saveOrUpdate가 먼저 값을 넣었다면 그 값이 더 최신이므로 덮어쓰지 않는다.
+		UserPoint loaded = delegate.findById(id);
+		UserPoint raced = cache.asMap().putIfAbsent(id, loaded);
+		return raced == null ? loaded : raced;
+	}
+
+	@Override
+	public UserPoint saveOrUpdate(long id, long amount) {
+		UserPoint saved = delegate.saveOrUpdate(id, amount);
+		cache.put(id, saved);
+		return saved;
+	}
+
+	@Override
+	public UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+		UserPoint saved = delegate.compareAndSet(id, expected, amount);
+		if (saved != null) {
+			cache.put(id, saved);
+		}
+		return saved;
+	}
+
+	public PointCacheStats stats() {
+		CacheStats stats = cache.stats();
+		return new PointCacheStats(
+			stats.hitCount(),
+			stats.missCount(),
+			stats.evictionCount(),
+			stats.hitRate(),
+			cache.estimatedSize()
+		);
+	}
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/point/cache")
+@ConditionalOnProperty(name = "point.cache.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PointCacheController {
+
+	private final CachingPointRepository cachingPointRepository;
+
+	/**
+	 * 잔고 캐시의 hit/miss/eviction 통계를 조회한다.
+	 */
+	@GetMapping("stats")
+	public PointCacheStats stats() {
+		return cachingPointRepository.stats();
+	}
+}
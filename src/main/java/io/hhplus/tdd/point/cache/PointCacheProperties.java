@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.cache")
+public record PointCacheProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("10000") long maximumSize,
+	@DefaultValue("10m") Duration expireAfterWrite
+) {
+
+	public PointCacheProperties {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize는 0 보다 커야 합니다. 입력값: %d".formatted(maximumSize));
+		}
+	}
+}
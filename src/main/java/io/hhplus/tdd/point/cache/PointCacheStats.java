@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.cache;
+
+public record PointCacheStats(
+	long hitCount,
+	long missCount,
+	long evictionCount,
+	double hitRate,
+	long size
+) {
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.commit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandApplier;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.UserIdLockProvider;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 같은 사용자에 대한 요청을 모아서 한 번에 반영한다.
+ * 요청은 먼저 사용자별 대기열에 들어가고, 락을 잡은 스레드가 대기열에 쌓인 요청을 들어온 순서대로 묶어서 처리한다.
+ * 락을 기다리던 스레드는 락을 얻었을 때 자기 요청이 이미 처리됐으면 결과만 가져간다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.write-mode", havingValue = "group-commit")
+@RequiredArgsConstructor
+public class GroupCommitPointCommandExecutor implements PointCommandExecutor {
+
+	private final UserIdLockProvider userIdLockProvider;
+	private final PointCommandApplier pointCommandApplier;
+	private final GroupCommitProperties groupCommitProperties;
+
+	private final ConcurrentHashMap<Long, Queue<PendingCommand>> pendingMap = new ConcurrentHashMap<>();
+
+	@Override
+	public UserPoint execute(long userId, PointCommand command) {
+		PendingCommand pending = new PendingCommand(command);
+		Queue<PendingCommand> queue = pendingMap.computeIfAbsent(userId, k -> new ConcurrentLinkedQueue<>());
+		queue.add(pending);
+
+		Lock userIdLock = userIdLockProvider.getUserIdLock(userId);
+		userIdLock.lock();
+		try {
+			while (pending.result == null) {
+				commit(userId, drain(queue));
+			}
+			// 빈 대기열은 지워서 한 번 요청한 사용자마다 대기열이 쌓이지 않게 한다.
+			// 지운 뒤에 이 대기열에 요청을 넣은 스레드도 락을 얻으면 자기가 넣은 대기열을 직접 비우므로 요청이 빠지지 않는다.
+			if (queue.isEmpty()) {
+				pendingMap.remove(userId, queue);
+			}
+		} finally {
+			userIdLock.unlock();
+		}
+		return pending.result.getOrThrow();
+	}
+
+	@Override
+	public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands) {
+		// 이미 한 묶음이므로 대기열을 거치지 않고 락을 잡은 채 바로 반영한다.
+		Lock userIdLock = userIdLockProvider.getUserIdLock(userId);
+		userIdLock.lock();
+		try {
+			return pointCommandApplier.apply(userId, commands);
+		} finally {
+			userIdLock.unlock();
+		}
+	}
+
+	@Override
+	public PointTransferResult transfer(long fromId, long toId, long amount) {
+		// provider가 정한 락 순서대로 잡아서, 엇갈린 이체끼리 서로를 기다리며 멈추지 않게 한다.
+		// 두 사용자가 한 락을 나눠 쓰면 한 번만 잡는다.
+		long[] keys = userIdLockProvider.inLockOrder(fromId, toId);
+		Lock first = userIdLockProvider.getUserIdLock(keys[0]);
+		first.lock();
+		try {
+			if (keys.length == 1) {
+				return pointCommandApplier.transfer(fromId, toId, amount);
+			}
+			Lock second = userIdLockProvider.getUserIdLock(keys[1]);
+			second.lock();
+			try {
+				return pointCommandApplier.transfer(fromId, toId, amount);
+			} finally {
+				second.unlock();
+			}
+		} finally {
+			first.unlock();
+		}
+	}
+
+	/**
+	 * 지금 남아 있는 사용자별 대기열 수.
+	 */
+	int pendingQueueCount() {
+		return pendingMap.size();
+	}
+
+	private List<PendingCommand> drain(Queue<PendingCommand> queue) {
+		List<PendingCommand> batch = new ArrayList<>();
+		PendingCommand next;
+		while (batch.size() < groupCommitProperties.maxBatchSize() && (next = queue.poll()) != null) {
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	private void commit(long userId, List<PendingCommand> batch) {
+		List<PointCommand> commands = batch.stream().map(PendingCommand::command).toList();
+		try {
+			List<PointCommandResult> results = pointCommandApplier.apply(userId, commands);
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).result = results.get(i);
+			}
+		} catch (RuntimeException e) {
+			// 저장소 오류처럼 요청 단위가 아닌 실패는 같은 배치의 요청 전부에 전달한다.
+			PointCommandResult failure = PointCommandResult.failure(e);
+			batch.forEach(it -> it.result = failure);
+		} catch (Error e) {
+			// Error여도 배치의 요청마다 결과를 남겨야, 그 요청을 기다리는 스레드가 결과 없는 대기열을 계속 돌지 않는다.
+			PointCommandResult failure = PointCommandResult.failure(
+				new IllegalStateException("요청을 반영하지 못했습니다.", e));
+			batch.forEach(it -> it.result = failure);
+			throw e;
+		}
+	}
+
+	private static final class PendingCommand {
+
+		private final PointCommand command;
+		private volatile PointCommandResult result;
+
+		private PendingCommand(PointCommand command) {
+			this.command = command;
+		}
+
+		private PointCommand command() {
+			return command;
+		}
+	}
+}
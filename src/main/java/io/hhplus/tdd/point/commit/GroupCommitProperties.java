@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.commit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.group-commit")
+public record GroupCommitProperties(
+	@DefaultValue("100") int maxBatchSize
+) {
+
+	public GroupCommitProperties {
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize는 0 보다 커야 합니다. 입력값: %d".formatted(maxBatchSize));
+		}
+	}
+}
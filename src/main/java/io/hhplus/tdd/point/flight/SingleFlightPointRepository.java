@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.flight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 사용자를 동시에 조회하면 먼저 온 요청 하나만 저장소를 읽고, 나머지는 그 결과를 함께 받는다.
+ * 조회가 끝나면 바로 잊으므로 결과를 오래 들고 있지 않고, 받은 값은 진행 중이던 저장소 조회 한 번보다 오래되지 않는다.
+ * saveOrUpdate가 끝난 뒤에 시작한 조회는 그 전부터 진행 중이던 조회에 합류하지 않는다.
+ * - point.read.single-flight : 저장소를 직접 읽은 조회(leader)와 다른 조회에 합류한 조회(follower) 수
+ * - point.read.single-flight.ratio : 전체 조회 중 합류한 조회의 비율
+ */
+public class SingleFlightPointRepository implements PointRepository {
+
+	private final PointRepository delegate;
+	private final ConcurrentHashMap<Long, CompletableFuture<UserPoint>> inFlight = new ConcurrentHashMap<>();
+	private final Counter leaders;
+	private final Counter followers;
+
+	public SingleFlightPointRepository(PointRepository delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.leaders = Counter.builder("point.read.single-flight")
+			.description("저장소를 직접 읽은 잔고 조회 수")
+			.tag("role", "leader")
+			.register(meterRegistry);
+		this.followers = Counter.builder("point.read.single-flight")
+			.description("진행 중인 같은 사용자 조회에 합류한 잔고 조회 수")
+			.tag("role", "follower")
+			.register(meterRegistry);
+		Gauge.builder("point.read.single-flight.ratio", this, SingleFlightPointRepository::coalescingRatio)
+			.description("전체 잔고 조회 중 다른 조회에 합류한 비율")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public UserPoint findById(long id) {
+		CompletableFuture<UserPoint> flight = new CompletableFuture<>();
+		CompletableFuture<UserPoint> running = inFlight.putIfAbsent(id, flight);
+		if (running != null) {
+			followers.increment();
+			return join(running);
+		}
+		leaders.increment();
+		try {
+			UserPoint userPoint = delegate.findById(id);
+			flight.complete(userPoint);
+			return userPoint;
+		} catch (Throwable e) {
+			// Error도 함께 넘겨야 합류한 조회가 끝나지 않는 future를 기다리지 않는다.
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(id, flight);
+		}
+	}
+
+	@Override
+	public UserPoint saveOrUpdate(long id, long amount) {
+		UserPoint saved = delegate.saveOrUpdate(id, amount);
+		// 쓰기 전부터 진행 중이던 조회는 이전 잔고를 읽었을 수 있으므로, 이후 조회가 합류하지 않게 떼어낸다.
+		inFlight.remove(id);
+		return saved;
+	}
+
+	@Override
+	public UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+		UserPoint saved = delegate.compareAndSet(id, expected, amount);
+		if (saved != null) {
+			inFlight.remove(id);
+		}
+		return saved;
+	}
+
+	double coalescingRatio() {
+		double total = leaders.count() + followers.count();
+		return total == 0 ? 0 : followers.count() / total;
+	}
+
+	private static UserPoint join(CompletableFuture<UserPoint> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * consumers를 2 이상으로 두려면 뒤에 있는 저장소가 동시 insert에 안전해야 한다.
+ * (PointHistoryTable은 안전하지 않다.)
+ */
+@ConfigurationProperties(prefix = "point.history.async")
+public record AsyncHistoryProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("1024") int bufferSize,
+	@DefaultValue("1") int consumers,
+	@DefaultValue("100") int batchSize
+) {
+
+	public AsyncHistoryProperties {
+		if (bufferSize <= 0 || consumers <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException(
+				"bufferSize, consumers, batchSize는 0 보다 커야 합니다. 입력값: %d, %d, %d"
+					.formatted(bufferSize, consumers, batchSize));
+		}
+	}
+}
@@ -0,0 +1,303 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이력 저장을 호출한 스레드에서 떼어내 백그라운드 소비자 스레드가 저장소에 반영하게 한다.
+ * userId 해시로 고른 파티션 하나를 한 소비자가 전담하므로 같은 사용자의 이력 순서는 유지된다.
+ * 파티션 버퍼가 가득 차면 호출한 스레드는 자리가 날 때까지 기다린다.
+ *
+ * 이력 id는 저장소에 반영될 때 정해지므로 saveUserPoint는 id가 0인 PointHistory를 반환한다.
+ * 조회는 조회하는 사용자의 이력 중 먼저 들어온 것이 모두 반영될 때까지만 기다린 뒤에 저장소를 읽는다.
+ * 같은 파티션의 다른 사용자 이력이 밀려 있어도 그만큼 기다리지는 않는다.
+ *
+ * 저장소 반영이 실패한 이력은 버리지 않는다. 잠시 쉬었다가 MAX_ATTEMPTS번까지 다시 시도하고,
+ * 그래도 실패하면 파티션에 따로 보관해 failedCount()로 드러낸다. 보관한 이력은 retryFailed()로 다시 반영하며,
+ * close()는 마지막으로 다시 시도한 뒤에도 남은 이력이 있으면 IllegalStateException을 던진다.
+ *
+ * 버퍼가 가득 차 기다리던 저장은 close()가 끝나기 전에 버퍼에 들어가 반영된다.
+ * close()는 버퍼에 넣는 중인 저장이 모두 끝난 뒤에 남은 이력을 비우므로, 종료 직전에 들어온 이력도 잃지 않는다.
+ */
+@Slf4j
+public class AsyncPointHistoryRepository implements PointHistoryRepository {
+
+	private static final long POLL_MILLIS = 100;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long RETRY_BACKOFF_MILLIS = 10;
+
+	private final PointHistoryRepository delegate;
+	private final int batchSize;
+	private final Partition[] partitions;
+	private final Thread[] consumers;
+	// 버퍼에 넣는 동안 read lock을 잡는다. close()는 write lock으로 넣는 중인 저장이 끝나기를 기다린다.
+	private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+	private volatile boolean closed;
+
+	public AsyncPointHistoryRepository(PointHistoryRepository delegate, AsyncHistoryProperties properties) {
+		this.delegate = delegate;
+		this.batchSize = properties.batchSize();
+		this.partitions = new Partition[properties.consumers()];
+		this.consumers = new Thread[properties.consumers()];
+		for (int i = 0; i < partitions.length; i++) {
+			Partition partition = new Partition(properties.bufferSize());
+			partitions[i] = partition;
+			consumers[i] = new Thread(() -> consume(partition), "history-consumer-" + i);
+			consumers[i].setDaemon(true);
+			consumers[i].start();
+		}
+	}
+
+	/**
+	 * 이력을 파티션 버퍼에 넣고 바로 반환한다. 아직 저장소에 반영되지 않았으므로 반환한 이력의 id는 0이다.
+	 * 실제 id가 필요하면 조회 메서드로 다시 읽는다.
+	 */
+	@Override
+	public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pending = new PointHistory(0, userId, amount, type, updateMillis);
+		Partition partition = partitionOf(userId);
+		UserProgress progress = partition.progressOf(userId);
+		closeLock.readLock().lock();
+		try {
+			if (closed) {
+				throw new IllegalStateException("이력 저장소가 종료되었습니다.");
+			}
+			partition.buffer.put(pending);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("이력 저장 대기 중 인터럽트 되었습니다.", e);
+		} finally {
+			closeLock.readLock().unlock();
+		}
+		progress.enqueued.incrementAndGet();
+		return pending;
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserId(long userId) {
+		partitionOf(userId).awaitPersisted(userId);
+		return delegate.findAllHistoryByUserId(userId);
+	}
+
+	@Override
+	public List<PointHistory> findPageByUserId(long userId, Long cursor, int limit) {
+		partitionOf(userId).awaitPersisted(userId);
+		return delegate.findPageByUserId(userId, cursor, limit);
+	}
+
+	@Override
+	public List<PointHistory> findChunkByUserId(long userId, long afterId, int limit) {
+		partitionOf(userId).awaitPersisted(userId);
+		return delegate.findChunkByUserId(userId, afterId, limit);
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserIdBetween(long userId, long from, long to) {
+		partitionOf(userId).awaitPersisted(userId);
+		return delegate.findAllHistoryByUserIdBetween(userId, from, to);
+	}
+
+	/**
+	 * 새 이력을 받지 않고, 버퍼에 남은 이력을 모두 반영한 뒤 소비자 스레드를 종료한다.
+	 */
+	public void close() {
+		closed = true;
+		// 버퍼가 가득 차 기다리던 저장은 소비자가 자리를 비워주면 들어간다. 그 저장들이 끝난 뒤에 소비자를 멈춘다.
+		closeLock.writeLock().lock();
+		closeLock.writeLock().unlock();
+		for (Thread consumer : consumers) {
+			try {
+				consumer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		// 종료 직전에 들어온 이력까지 호출한 스레드에서 마저 반영한다.
+		for (Partition partition : partitions) {
+			drain(partition);
+		}
+		int failed = retryFailed();
+		if (failed > 0) {
+			throw new IllegalStateException("저장소에 반영하지 못한 이력 %d건을 남기고 종료했습니다.".formatted(failed));
+		}
+	}
+
+	/**
+	 * 보관해 둔 반영 실패 이력을 호출한 스레드에서 다시 저장소에 반영하고, 그래도 남은 건수를 반환한다.
+	 */
+	public int retryFailed() {
+		int remaining = 0;
+		for (Partition partition : partitions) {
+			partition.lock.lock();
+			try {
+				int count = partition.failed.size();
+				for (int i = 0; i < count; i++) {
+					PointHistory history = partition.failed.poll();
+					if (!save(history)) {
+						partition.failed.add(history);
+					}
+				}
+				remaining += partition.failed.size();
+			} finally {
+				partition.lock.unlock();
+			}
+		}
+		return remaining;
+	}
+
+	public int failedCount() {
+		int count = 0;
+		for (Partition partition : partitions) {
+			count += partition.failed.size();
+		}
+		return count;
+	}
+
+	public int pendingCount() {
+		int count = 0;
+		for (Partition partition : partitions) {
+			count += partition.buffer.size();
+		}
+		return count;
+	}
+
+	private Partition partitionOf(long userId) {
+		return partitions[Math.floorMod(Long.hashCode(userId), partitions.length)];
+	}
+
+	private void consume(Partition partition) {
+		while (!closed || !partition.buffer.isEmpty()) {
+			try {
+				PointHistory first = partition.buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				List<PointHistory> batch = new ArrayList<>(batchSize);
+				batch.add(first);
+				partition.buffer.drainTo(batch, batchSize - 1);
+				persist(partition, batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void drain(Partition partition) {
+		List<PointHistory> batch = new ArrayList<>();
+		while (partition.buffer.drainTo(batch, batchSize) > 0) {
+			persist(partition, batch);
+			batch.clear();
+		}
+	}
+
+	private void persist(Partition partition, List<PointHistory> batch) {
+		for (PointHistory history : batch) {
+			if (!saveWithRetry(history)) {
+				partition.failed.add(history);
+				log.error("이력을 {}번 시도했지만 저장하지 못해 보관합니다. {}", MAX_ATTEMPTS, history);
+			}
+		}
+		partition.markPersisted(batch);
+	}
+
+	private boolean saveWithRetry(PointHistory history) {
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			if (save(history)) {
+				return true;
+			}
+			if (attempt < MAX_ATTEMPTS) {
+				try {
+					TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MILLIS * attempt);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean save(PointHistory history) {
+		try {
+			delegate.saveUserPoint(history.userId(), history.amount(), history.type(), history.updateMillis());
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("이력을 저장하지 못했습니다. {}", history, e);
+			return false;
+		}
+	}
+
+	private static final class Partition {
+
+		private final ArrayBlockingQueue<PointHistory> buffer;
+		private final ConcurrentHashMap<Long, UserProgress> progresses = new ConcurrentHashMap<>();
+		// 다시 시도해도 반영하지 못한 이력. 버리지 않고 retryFailed()를 기다린다.
+		private final ConcurrentLinkedQueue<PointHistory> failed = new ConcurrentLinkedQueue<>();
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition persistedCondition = lock.newCondition();
+
+		private Partition(int capacity) {
+			this.buffer = new ArrayBlockingQueue<>(capacity);
+		}
+
+		private UserProgress progressOf(long userId) {
+			return progresses.computeIfAbsent(userId, k -> new UserProgress());
+		}
+
+		private void markPersisted(List<PointHistory> batch) {
+			lock.lock();
+			try {
+				for (PointHistory history : batch) {
+					progresses.get(history.userId()).persisted++;
+				}
+				persistedCondition.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 호출한 시점까지 이 사용자에 대해 버퍼에 넣은 이력이 모두 반영될 때까지 기다린다.
+		 * 한 파티션은 한 소비자가 들어온 순서대로 반영하므로 사용자별 건수만 비교하면 된다.
+		 */
+		private void awaitPersisted(long userId) {
+			UserProgress progress = progresses.get(userId);
+			if (progress == null) {
+				return;
+			}
+			long target = progress.enqueued.get();
+			lock.lock();
+			try {
+				while (progress.persisted < target) {
+					persistedCondition.awaitUninterruptibly();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 한 사용자에 대해 버퍼에 넣은 이력 수와 반영을 마친 이력 수. persisted는 파티션 lock 안에서만 바꾼다.
+	 */
+	private static final class UserProgress {
+
+		private final AtomicLong enqueued = new AtomicLong();
+		private long persisted;
+	}
+}
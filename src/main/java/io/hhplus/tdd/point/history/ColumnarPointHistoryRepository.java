@@ -0,0 +1,189 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 이력을 primitive 배열 열(HistoryColumns)에 보관한다.
+ * 행마다 객체를 두지 않으므로 한 행이 차지하는 메모리가 작고 GC가 훑을 객체도 거의 없다.
+ * 사용자별로는 행 번호만 int 배열로 색인해 두고, PointHistory는 조회 결과를 읽을 때 만든다.
+ */
+@Repository
+@ConditionalOnProperty(name = "point.history.store", havingValue = "columnar")
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final HistoryColumns columns = new HistoryColumns();
+	private final Map<Long, RowIndex> rowsByUser = new HashMap<>();
+
+	@Override
+	public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+		int row;
+		lock.writeLock().lock();
+		try {
+			row = columns.append(userId, amount, type, updateMillis);
+			rowsByUser.computeIfAbsent(userId, k -> new RowIndex()).add(row, updateMillis, columns);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		return new PointHistory(row + 1L, userId, amount, type, updateMillis);
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserId(long userId) {
+		lock.readLock().lock();
+		try {
+			RowIndex index = rowsByUser.get(userId);
+			return index == null ? List.of() : columns.rows(index.range(0, index.size));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<PointHistory> findPageByUserId(long userId, Long cursor, int limit) {
+		lock.readLock().lock();
+		try {
+			RowIndex index = rowsByUser.get(userId);
+			if (index == null) {
+				return List.of();
+			}
+			// id가 cursor 보다 작다 = 행 번호가 cursor - 1 보다 작다
+			int end = cursor == null ? index.size : index.lowerBound(cursor - 1);
+			int count = Math.min(limit, end);
+			int[] rows = new int[count];
+			for (int i = 0; i < count; i++) {
+				rows[i] = index.rows[end - 1 - i];
+			}
+			return columns.rows(rows);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<PointHistory> findChunkByUserId(long userId, long afterId, int limit) {
+		lock.readLock().lock();
+		try {
+			RowIndex index = rowsByUser.get(userId);
+			if (index == null) {
+				return List.of();
+			}
+			// id가 afterId 보다 크다 = 행 번호가 afterId 이상이다
+			int start = index.lowerBound(afterId);
+			return columns.rows(index.range(start, start + Math.min(limit, index.size - start)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserIdBetween(long userId, long from, long to) {
+		lock.readLock().lock();
+		try {
+			RowIndex index = rowsByUser.get(userId);
+			if (index == null) {
+				return List.of();
+			}
+			int start = index.timeBound(from, columns);
+			int end = Math.max(start, index.timeBound(to, columns));
+			return columns.rows(Arrays.copyOfRange(index.byTime, start, end));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public long count() {
+		lock.readLock().lock();
+		try {
+			return columns.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 한 사용자의 행 번호 목록. 행은 append 순서대로 들어오므로 항상 오름차순이다.
+	 * byTime은 같은 행 번호를 updateMillis 오름차순(같으면 들어온 순서)으로 정렬해 둔 시간순 색인이다.
+	 */
+	private static final class RowIndex {
+
+		private int[] rows = new int[8];
+		private int[] byTime = new int[8];
+		private int size;
+
+		void add(int row, long updateMillis, HistoryColumns columns) {
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, size << 1);
+				byTime = Arrays.copyOf(byTime, size << 1);
+			}
+			rows[size] = row;
+			// 대부분 시각 순서대로 들어오므로 끝에 붙이고, 시각이 앞서는 이력만 같은 시각의 마지막 뒤에 끼워 넣는다.
+			int position = size == 0 || columns.millisAt(byTime[size - 1]) <= updateMillis
+				? size
+				: timeUpperBound(updateMillis, columns);
+			System.arraycopy(byTime, position, byTime, position + 1, size - position);
+			byTime[position] = row;
+			size++;
+		}
+
+		// 시간순 색인에서 updateMillis가 millis 이상인 첫 위치
+		int timeBound(long millis, HistoryColumns columns) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (columns.millisAt(byTime[mid]) < millis) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		// 시간순 색인에서 updateMillis가 millis 보다 큰 첫 위치
+		private int timeUpperBound(long millis, HistoryColumns columns) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (columns.millisAt(byTime[mid]) <= millis) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		int[] range(int from, int to) {
+			return Arrays.copyOfRange(rows, from, to);
+		}
+
+		// 행 번호가 row 이상인 첫 위치
+		int lowerBound(long row) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (rows[mid] < row) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 이력을 PointHistory 객체가 아니라 필드별 primitive 배열(열)로 보관한다.
+ * 행 번호가 곧 id - 1 이므로 id 열은 따로 두지 않는다.
+ * 열은 고정 크기 세그먼트로 나눠 늘리므로, 커질 때 기존 행을 복사하지 않는다.
+ * 동기화는 하지 않으므로 호출하는 쪽에서 락을 잡아야 한다.
+ */
+class HistoryColumns {
+
+	private static final int SEGMENT_SHIFT = 16;
+	private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	private long[][] userIds = new long[0][];
+	private long[][] amounts = new long[0][];
+	private long[][] millis = new long[0][];
+	private byte[][] types = new byte[0][];
+	private int size;
+
+	int append(long userId, long amount, TransactionType type, long updateMillis) {
+		if (size == Integer.MAX_VALUE) {
+			throw new IllegalStateException("이력을 더 저장할 수 없습니다.");
+		}
+		int row = size;
+		int segment = row >>> SEGMENT_SHIFT;
+		if (segment == userIds.length) {
+			grow();
+		}
+		int offset = row & SEGMENT_MASK;
+		userIds[segment][offset] = userId;
+		amounts[segment][offset] = amount;
+		millis[segment][offset] = updateMillis;
+		types[segment][offset] = (byte)type.ordinal();
+		size++;
+		return row;
+	}
+
+	int size() {
+		return size;
+	}
+
+	long amountAt(int row) {
+		return amounts[row >>> SEGMENT_SHIFT][row & SEGMENT_MASK];
+	}
+
+	long millisAt(int row) {
+		return millis[row >>> SEGMENT_SHIFT][row & SEGMENT_MASK];
+	}
+
+	/**
+	 * rows 에 해당하는 행을 읽는 목록. PointHistory는 get 할 때 만든다.
+	 * 지금의 세그먼트 목록을 붙잡아 두므로 이후 append와 무관하게 읽을 수 있다.
+	 */
+	RowView rows(int[] rows) {
+		return new RowView(userIds, amounts, millis, types, rows);
+	}
+
+	private void grow() {
+		int segments = userIds.length + 1;
+		userIds = Arrays.copyOf(userIds, segments);
+		amounts = Arrays.copyOf(amounts, segments);
+		millis = Arrays.copyOf(millis, segments);
+		types = Arrays.copyOf(types, segments);
+		userIds[segments - 1] = new long[SEGMENT_SIZE];
+		amounts[segments - 1] = new long[SEGMENT_SIZE];
+		millis[segments - 1] = new long[SEGMENT_SIZE];
+		types[segments - 1] = new byte[SEGMENT_SIZE];
+	}
+
+	static final class RowView extends AbstractList<PointHistory> implements RandomAccess {
+
+		private final long[][] userIds;
+		private final long[][] amounts;
+		private final long[][] millis;
+		private final byte[][] types;
+		private final int[] rows;
+
+		private RowView(long[][] userIds, long[][] amounts, long[][] millis, byte[][] types, int[] rows) {
+			this.userIds = userIds;
+			this.amounts = amounts;
+			this.millis = millis;
+			this.types = types;
+			this.rows = rows;
+		}
+
+		@Override
+		public PointHistory get(int index) {
+			int row = rows[index];
+			int segment = row >>> SEGMENT_SHIFT;
+			int offset = row & SEGMENT_MASK;
+			return new PointHistory(row + 1L, userIds[segment][offset], amounts[segment][offset],
+				TYPES[types[segment][offset]], millis[segment][offset]);
+		}
+
+		@Override
+		public int size() {
+			return rows.length;
+		}
+	}
+}
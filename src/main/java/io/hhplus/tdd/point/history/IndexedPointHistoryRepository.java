@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 이력을 사용자별 목록으로 나눠 메모리에 보관한다.
+ * 조회 비용은 전체 이력 수가 아니라 해당 사용자의 이력 수에만 비례한다.
+ */
+@Repository
+@ConditionalOnProperty(name = "point.history.store", havingValue = "indexed")
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+	private final ConcurrentHashMap<Long, UserHistoryLog> logs = new ConcurrentHashMap<>();
+	private final AtomicLong cursor = new AtomicLong(1);
+
+	@Override
+	public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+		return logs.computeIfAbsent(userId, k -> new UserHistoryLog())
+			.append(() -> new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis));
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserId(long userId) {
+		UserHistoryLog log = logs.get(userId);
+		return log == null ? List.of() : log.snapshot();
+	}
+
+	@Override
+	public List<PointHistory> findPageByUserId(long userId, Long cursor, int limit) {
+		UserHistoryLog log = logs.get(userId);
+		return log == null ? List.of() : log.page(cursor, limit);
+	}
+
+	@Override
+	public List<PointHistory> findChunkByUserId(long userId, long afterId, int limit) {
+		UserHistoryLog log = logs.get(userId);
+		return log == null ? List.of() : log.chunkAfter(afterId, limit);
+	}
+
+	@Override
+	public List<PointHistory> findAllHistoryByUserIdBetween(long userId, long from, long to) {
+		UserHistoryLog log = logs.get(userId);
+		return log == null ? List.of() : log.between(from, to);
+	}
+
+	public long count() {
+		return cursor.get() - 1;
+	}
+}
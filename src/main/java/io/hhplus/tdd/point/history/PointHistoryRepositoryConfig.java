@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+
+/**
+ * 저장소 구현체(@Repository)를 감싸는 PointHistoryRepository를 등록한다.
+ * 감싼 빈은 @Primary 이므로 PointService 등에는 감싼 쪽이 주입된다.
+ */
+@Configuration
+public class PointHistoryRepositoryConfig {
+
+	@Bean(destroyMethod = "close")
+	@Primary
+	@ConditionalOnProperty(name = "point.history.async.enabled", havingValue = "true")
+	public AsyncPointHistoryRepository asyncPointHistoryRepository(
+		PointHistoryRepository pointHistoryStore,
+		AsyncHistoryProperties asyncHistoryProperties
+	) {
+		return new AsyncPointHistoryRepository(pointHistoryStore, asyncHistoryProperties);
+	}
+}
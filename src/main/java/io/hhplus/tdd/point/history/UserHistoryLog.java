@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 한 사용자의 이력을 들어온 순서대로 쌓아두는 append-only 배열.
+ * 사용자마다 락이 따로 있으므로 다른 사용자의 append와는 서로 기다리지 않는다.
+ * 이력 생성(id 발급)도 락 안에서 하므로 한 사용자의 목록은 항상 id 오름차순이다.
+ * timeline은 같은 이력을 updateMillis 오름차순(같으면 들어온 순서)으로 정렬해 둔 시간순 색인이다.
+ */
+class UserHistoryLog {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private PointHistory[] entries = new PointHistory[INITIAL_CAPACITY];
+	private PointHistory[] timeline = new PointHistory[INITIAL_CAPACITY];
+	private int size;
+
+	PointHistory append(Supplier<PointHistory> factory) {
+		lock.lock();
+		try {
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size << 1);
+				timeline = Arrays.copyOf(timeline, size << 1);
+			}
+			PointHistory history = factory.get();
+			entries[size] = history;
+			// 대부분 시각 순서대로 들어오므로 끝에 붙이고, 시각이 앞서는 이력만 같은 시각의 마지막 뒤에 끼워 넣는다.
+			int position = size == 0 || timeline[size - 1].updateMillis() <= history.updateMillis()
+				? size
+				: timeUpperBound(history.updateMillis());
+			System.arraycopy(timeline, position, timeline, position + 1, size - position);
+			timeline[position] = history;
+			size++;
+			return history;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	List<PointHistory> snapshot() {
+		lock.lock();
+		try {
+			return List.of(Arrays.copyOf(entries, size));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * id가 cursor 보다 작은 이력을 최신순으로 최대 limit 건 복사한다. 목록이 id 오름차순이므로 시작 위치는 이진 탐색으로 찾는다.
+	 */
+	List<PointHistory> page(Long cursor, int limit) {
+		lock.lock();
+		try {
+			int end = cursor == null ? size : lowerBound(cursor);
+			int count = Math.min(limit, end);
+			PointHistory[] page = new PointHistory[count];
+			for (int i = 0; i < count; i++) {
+				page[i] = entries[end - 1 - i];
+			}
+			return List.of(page);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * id가 afterId 보다 큰 이력을 오래된 순으로 최대 limit 건 복사한다.
+	 */
+	List<PointHistory> chunkAfter(long afterId, int limit) {
+		lock.lock();
+		try {
+			int start = lowerBound(afterId + 1);
+			int count = Math.min(limit, size - start);
+			return List.of(Arrays.copyOfRange(entries, start, start + count));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * updateMillis가 from(포함) ~ to(미포함) 범위인 이력을 시각 오름차순으로 복사한다.
+	 * 범위의 양 끝은 시간순 색인에서 이진 탐색으로 찾으므로 범위 밖의 이력은 읽지 않는다.
+	 */
+	List<PointHistory> between(long from, long to) {
+		lock.lock();
+		try {
+			int start = timeLowerBound(from);
+			int end = Math.max(start, timeLowerBound(to));
+			return List.of(Arrays.copyOfRange(timeline, start, end));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int size() {
+		lock.lock();
+		try {
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// id가 cursor 이상인 첫 위치
+	private int lowerBound(long cursor) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (entries[mid].id() < cursor) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 시간순 색인에서 updateMillis가 millis 이상인 첫 위치
+	private int timeLowerBound(long millis) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (timeline[mid].updateMillis() < millis) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 시간순 색인에서 updateMillis가 millis 보다 큰 첫 위치
+	private int timeUpperBound(long millis) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (timeline[mid].updateMillis() <= millis) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * (userId, Idempotency-Key) 별로 처음 반영한 요청의 결과를 크기와 보관 시간이 제한된 캐시(Caffeine)에 둔다.
+ * 같은 키로 다시 온 요청은 저장된 UserPoint를 그대로 돌려받으므로 사용자 락을 다시 잡거나 이력을 또 남기지 않는다.
+ * 처음 요청이 아직 처리 중이면 그 결과를 기다린다. 실패한 요청은 저장하지 않아 같은 키로 다시 시도할 수 있다.
+ */
+@Component
+public class IdempotencyCache {
+
+	private final Cache<IdempotencyKey, Entry> cache;
+
+	public IdempotencyCache(IdempotencyProperties properties) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.expireAfterWrite())
+			.build();
+	}
+
+	/**
+	 * key가 없으면 action을 그대로 실행한다.
+	 */
+	public UserPoint execute(long userId, String key, PointCommand command, Supplier<UserPoint> action) {
+		if (key == null) {
+			return action.get();
+		}
+		IdempotencyKey idempotencyKey = new IdempotencyKey(userId, key);
+		Entry entry = new Entry(command, new CompletableFuture<>());
+		Entry stored = cache.asMap().putIfAbsent(idempotencyKey, entry);
+		if (stored != null) {
+			if (!stored.command().equals(command)) {
+				throw new IllegalArgumentException(
+					"같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다. Idempotency-Key: %s".formatted(key));
+			}
+			return join(stored.result());
+		}
+		try {
+			UserPoint userPoint = action.get();
+			entry.result().complete(userPoint);
+			return userPoint;
+		} catch (Throwable e) {
+			// Error로 끝나도 항목을 지우고 기다리는 요청을 깨워야 같은 키가 영원히 막히지 않는다.
+			cache.asMap().remove(idempotencyKey, entry);
+			entry.result().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static UserPoint join(CompletableFuture<UserPoint> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private record IdempotencyKey(
+		long userId,
+		String key
+	) {
+	}
+
+	private record Entry(
+		PointCommand command,
+		CompletableFuture<UserPoint> result
+	) {
+	}
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+	@DefaultValue("100000") long maximumSize,
+	@DefaultValue("10m") Duration expireAfterWrite
+) {
+
+	public IdempotencyProperties {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize는 0 보다 커야 합니다. 입력값: %d".formatted(maximumSize));
+		}
+		if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+			throw new IllegalArgumentException("expireAfterWrite는 0 보다 커야 합니다. 입력값: %s".formatted(expireAfterWrite));
+		}
+	}
+}
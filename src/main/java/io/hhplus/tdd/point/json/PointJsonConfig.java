@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.json;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HttpMessageConverter 빈은 스프링 부트가 기본 컨버터(Jackson)보다 앞에 등록하므로,
+ * UserPoint, PointHistory, List&lt;PointHistory&gt; 응답은 PointJsonHttpMessageConverter가 먼저 맡는다.
+ */
+@Configuration
+public class PointJsonConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "point.json.converter", havingValue = "hand-tuned", matchIfMissing = true)
+	public PointJsonHttpMessageConverter pointJsonHttpMessageConverter() {
+		return new PointJsonHttpMessageConverter();
+	}
+}
@@ -0,0 +1,245 @@
+package io.hhplus.tdd.point.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPoint, PointHistory, List&lt;PointHistory&gt; 응답을 Jackson을 거치지 않고 JSON으로 쓴다.
+ * 필드 이름과 순서는 Jackson이 record를 쓴 결과와 같다.
+ * 값은 숫자와 enum 이름뿐이라 이스케이프할 문자가 없으므로, 미리 인코딩해 둔 필드 이름과 숫자 자릿수를 버퍼에 채워 바로 스트림으로 내보낸다.
+ * 버퍼는 풀에서 빌려 쓰고 돌려준다. 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal에 두면 재사용되지 않는다.
+ * 요청 본문은 읽지 않으며, 그 밖의 타입은 다음 컨버터(Jackson)가 처리한다.
+ */
+public class PointJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+	private static final int POOL_SIZE = 256;
+	// 부호를 포함한 long의 최대 자릿수
+	private static final int MAX_LONG_LENGTH = 20;
+
+	private static final byte[] ID = ascii("{\"id\":");
+	private static final byte[] POINT = ascii(",\"point\":");
+	private static final byte[] USER_ID = ascii(",\"userId\":");
+	private static final byte[] AMOUNT = ascii(",\"amount\":");
+	private static final byte[] UPDATE_MILLIS = ascii(",\"updateMillis\":");
+	private static final byte[] NULL_TYPE = ascii(",\"type\":null");
+	private static final byte[][] TYPES = typeFields();
+	private static final byte[] NULL = ascii("null");
+	private static final byte[] LONG_MIN_VALUE = ascii(Long.toString(Long.MIN_VALUE));
+
+	private final BlockingQueue<JsonBuffer> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	public PointJsonHttpMessageConverter() {
+		super(MediaType.APPLICATION_JSON);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return clazz == UserPoint.class || clazz == PointHistory.class;
+	}
+
+	/**
+	 * 목록은 원소 타입을 알아야 하므로 컨트롤러가 선언한 반환 타입이 List&lt;PointHistory&gt; 일 때만 맡는다.
+	 */
+	@Override
+	public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+		if (!canWrite(mediaType)) {
+			return false;
+		}
+		if (type instanceof ParameterizedType parameterizedType) {
+			return parameterizedType.getRawType() instanceof Class<?> rawType
+				&& List.class.isAssignableFrom(rawType)
+				&& parameterizedType.getActualTypeArguments()[0] == PointHistory.class;
+		}
+		return supports(clazz);
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("요청 본문은 읽을 수 없습니다.", inputMessage);
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("요청 본문은 읽을 수 없습니다.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+		JsonBuffer buffer = acquire(outputMessage.getBody());
+		try {
+			if (object instanceof UserPoint userPoint) {
+				writeUserPoint(buffer, userPoint);
+			} else if (object instanceof PointHistory pointHistory) {
+				writePointHistory(buffer, pointHistory);
+			} else if (object instanceof List<?> histories) {
+				writePointHistories(buffer, histories);
+			} else {
+				throw new HttpMessageNotWritableException(
+					"지원하지 않는 응답 타입입니다. 타입: %s".formatted(object.getClass().getName()));
+			}
+			buffer.flush();
+		} finally {
+			release(buffer);
+		}
+	}
+
+	private void writeUserPoint(JsonBuffer buffer, UserPoint userPoint) throws IOException {
+		buffer.write(ID);
+		buffer.writeLong(userPoint.id());
+		buffer.write(POINT);
+		buffer.writeLong(userPoint.point());
+		buffer.write(UPDATE_MILLIS);
+		buffer.writeLong(userPoint.updateMillis());
+		buffer.write('}');
+	}
+
+	private void writePointHistory(JsonBuffer buffer, PointHistory pointHistory) throws IOException {
+		buffer.write(ID);
+		buffer.writeLong(pointHistory.id());
+		buffer.write(USER_ID);
+		buffer.writeLong(pointHistory.userId());
+		buffer.write(AMOUNT);
+		buffer.writeLong(pointHistory.amount());
+		buffer.write(pointHistory.type() == null ? NULL_TYPE : TYPES[pointHistory.type().ordinal()]);
+		buffer.write(UPDATE_MILLIS);
+		buffer.writeLong(pointHistory.updateMillis());
+		buffer.write('}');
+	}
+
+	private void writePointHistories(JsonBuffer buffer, List<?> histories) throws IOException {
+		buffer.write('[');
+		boolean first = true;
+		for (Object history : histories) {
+			if (!first) {
+				buffer.write(',');
+			}
+			first = false;
+			if (history == null) {
+				buffer.write(NULL);
+			} else {
+				writePointHistory(buffer, (PointHistory)history);
+			}
+		}
+		buffer.write(']');
+	}
+
+	private JsonBuffer acquire(OutputStream out) {
+		JsonBuffer buffer = buffers.poll();
+		if (buffer == null) {
+			buffer = new JsonBuffer();
+		}
+		buffer.out = out;
+		return buffer;
+	}
+
+	/**
+	 * 쓰다가 실패한 버퍼도 내용을 비우고 돌려준다. 풀이 가득 차 있으면 버린다.
+	 */
+	private void release(JsonBuffer buffer) {
+		buffer.out = null;
+		buffer.position = 0;
+		buffers.offer(buffer);
+	}
+
+	private static byte[][] typeFields() {
+		TransactionType[] types = TransactionType.values();
+		byte[][] fields = new byte[types.length][];
+		for (TransactionType type : types) {
+			fields[type.ordinal()] = ascii(",\"type\":\"" + type.name() + "\"");
+		}
+		return fields;
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 고정 크기 바이트 버퍼. 다음에 쓸 내용이 들어가지 않으면 지금까지 쓴 내용을 스트림으로 내보낸다.
+	 */
+	private static final class JsonBuffer {
+
+		private final byte[] bytes = new byte[BUFFER_SIZE];
+		private int position;
+		private OutputStream out;
+
+		void write(int b) throws IOException {
+			ensureCapacity(1);
+			bytes[position++] = (byte)b;
+		}
+
+		void write(byte[] source) throws IOException {
+			ensureCapacity(source.length);
+			System.arraycopy(source, 0, bytes, position, source.length);
+			position += source.length;
+		}
+
+		void writeLong(long value) throws IOException {
+			if (value == Long.MIN_VALUE) {
+				write(LONG_MIN_VALUE);
+				return;
+			}
+			ensureCapacity(MAX_LONG_LENGTH);
+			if (value < 0) {
+				bytes[position++] = '-';
+				value = -value;
+			}
+			int end = position + digits(value);
+			for (int i = end - 1; i >= position; i--) {
+				bytes[i] = (byte)('0' + value % 10);
+				value /= 10;
+			}
+			position = end;
+		}
+
+		void flush() throws IOException {
+			if (position > 0) {
+				out.write(bytes, 0, position);
+				position = 0;
+			}
+		}
+
+		private void ensureCapacity(int length) throws IOException {
+			if (position + length > bytes.length) {
+				flush();
+			}
+		}
+
+		private static int digits(long value) {
+			int digits = 1;
+			while (value >= 10) {
+				value /= 10;
+				digits++;
+			}
+			return digits;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point.ledger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잔고를 메모리에 두고 원본으로 사용한다.
+ * 사용자마다 AtomicReference 슬롯 하나를 CAS로 갱신하고, UserPoint 생성자가 0 ~ 100,000 한도를 보장한다.
+ * PointCommandApplier는 compareAndSet으로 쓰므로, 읽은 뒤 락을 거치지 않은 쓰기가 끼어들면 덮어쓰지 않고 거절된다.
+ * UserPointTable에는 백그라운드 스레드가 나중에 반영하며, 그 사이 같은 사용자의 변경은 마지막 값 하나로 합쳐진다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "point.repository", havingValue = "ledger")
+@RequiredArgsConstructor
+public class LedgerPointRepository implements PointRepository {
+
+	private final UserPointTable userPointTable;
+	private final LedgerProperties ledgerProperties;
+
+	private final ConcurrentHashMap<Long, Slot> ledger = new ConcurrentHashMap<>();
+	private final LinkedBlockingQueue<Long> dirtyIds = new LinkedBlockingQueue<>();
+	// UserPointTable은 thread-safe 하지 않으므로 테이블 호출은 하나씩만 한다.
+	private final ReentrantLock tableLock = new ReentrantLock();
+	// flush()가 반환되면 그 전에 꺼낸 변경까지 모두 테이블에 반영됐음을 보장한다.
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private volatile boolean running;
+	private Thread writer;
+
+	@PostConstruct
+	void start() {
+		running = true;
+		writer = new Thread(this::writeBehind, "ledger-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	@Override
+	public UserPoint findById(long id) {
+		return slot(id).value.get();
+	}
+
+	@Override
+	public UserPoint saveOrUpdate(long id, long amount) {
+		return update(id, current -> new UserPoint(id, amount, System.currentTimeMillis()));
+	}
+
+	/**
+	 * 슬롯이 expected와 같은 잔고일 때만 바꾼다. 조회가 캐시 등 데코레이터를 거쳐 다른 객체일 수 있으므로 값으로 비교한다.
+	 */
+	@Override
+	public UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+		Slot slot = slot(id);
+		UserPoint current = slot.value.get();
+		if (!current.equals(expected)) {
+			return null;
+		}
+		UserPoint updated = new UserPoint(id, amount, System.currentTimeMillis());
+		if (!slot.value.compareAndSet(current, updated)) {
+			return null;
+		}
+		markDirty(id, slot);
+		return updated;
+	}
+
+	public UserPoint charge(long id, long amount) {
+		return update(id, current -> current.charge(amount));
+	}
+
+	public UserPoint use(long id, long amount) {
+		return update(id, current -> current.use(amount));
+	}
+
+	/**
+	 * 락 없이 CAS로 잔고를 갱신한다. updater가 예외를 던지면 슬롯은 바뀌지 않는다.
+	 */
+	public UserPoint update(long id, UnaryOperator<UserPoint> updater) {
+		Slot slot = slot(id);
+		UserPoint updated = slot.value.updateAndGet(updater);
+		markDirty(id, slot);
+		return updated;
+	}
+
+	/**
+	 * 아직 테이블에 반영되지 않은 변경을 지금 반영한다.
+	 */
+	public void flush() {
+		List<Long> ids = new ArrayList<>();
+		dirtyIds.drainTo(ids);
+		write(ids);
+	}
+
+	public int pendingCount() {
+		return dirtyIds.size();
+	}
+
+	private void markDirty(long id, Slot slot) {
+		if (slot.dirty.compareAndSet(false, true)) {
+			dirtyIds.add(id);
+		}
+	}
+
+	private Slot slot(long id) {
+		Slot slot = ledger.get(id);
+		if (slot != null) {
+			return slot;
+		}
+		// 처음 보는 사용자만 테이블에서 읽어온다. 동시에 읽었다면 먼저 들어간 슬롯을 쓴다.
+		UserPoint loaded = withTable(() -> userPointTable.selectById(id));
+		return ledger.computeIfAbsent(id, k -> new Slot(loaded));
+	}
+
+	private void writeBehind() {
+		while (running) {
+			try {
+				Long first = dirtyIds.poll(ledgerProperties.flushIntervalMillis(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				List<Long> ids = new ArrayList<>();
+				ids.add(first);
+				dirtyIds.drainTo(ids);
+				write(ids);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				// 실패한 잔고는 다시 큐에 들어가 있으므로, 바로 다시 꺼내 같은 실패를 반복하지 않도록 한 주기 쉰다.
+				log.error("잔고를 테이블에 반영하지 못했습니다. 다음 주기에 다시 반영합니다.", e);
+				try {
+					TimeUnit.MILLISECONDS.sleep(ledgerProperties.flushIntervalMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 테이블 반영이 실패한 잔고는 다시 dirty로 표시하고 큐에 넣어 다음에 다시 반영한다.
+	 * 한 사용자가 실패해도 나머지 사용자는 계속 반영하고, 첫 실패를 마지막에 던진다.
+	 */
+	private void write(List<Long> ids) {
+		RuntimeException failure = null;
+		flushLock.lock();
+		try {
+			for (Long id : ids) {
+				Slot slot = ledger.get(id);
+				// dirty를 먼저 내려야 반영 중에 들어온 변경이 다시 큐에 들어간다.
+				slot.dirty.set(false);
+				UserPoint latest = slot.value.get();
+				try {
+					withTable(() -> userPointTable.insertOrUpdate(id, latest.point()));
+				} catch (RuntimeException e) {
+					markDirty(id, slot);
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+		} finally {
+			flushLock.unlock();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private UserPoint withTable(Supplier<UserPoint> call) {
+		tableLock.lock();
+		try {
+			return call.get();
+		} finally {
+			tableLock.unlock();
+		}
+	}
+
+	private static final class Slot {
+
+		private final AtomicReference<UserPoint> value;
+		private final AtomicBoolean dirty = new AtomicBoolean();
+
+		private Slot(UserPoint initial) {
+			this.value = new AtomicReference<>(initial);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.ledger")
+public record LedgerProperties(
+	@DefaultValue("100") long flushIntervalMillis
+) {
+
+	public LedgerProperties {
+		if (flushIntervalMillis <= 0) {
+			throw new IllegalArgumentException(
+				"flushIntervalMillis는 0 보다 커야 합니다. 입력값: %d".formatted(flushIntervalMillis));
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 번 만든 Lock을 계속 보관한다. 사용자 수만큼 락이 쌓이므로 비교용으로만 남겨둔다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.lock.strategy", havingValue = "map")
+public class ConcurrentMapUserIdLockProvider implements UserIdLockProvider {
+
+	private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+	@Override
+	public Lock getUserIdLock(Long id) {
+		return lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
+	}
+
+	@Override
+	public int size() {
+		return lockMap.size();
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 한 사용자의 락을 기다리는 스레드가 maxQueueDepth를 넘거나, maxWait 안에 락을 얻지 못하면 요청을 거절한다.
+ * 거절은 @UserIdLock을 거치는 lock 모드에서만 한다. group-commit, partition 모드는 이 설정을 쓰지 않는다.
+ *
+ * 주된 제한은 maxQueueDepth다. 락을 잡은 요청 하나는 테이블을 세 번(잔고 조회 최대 200ms, 잔고 저장 최대 300ms,
+ * 이력 저장 최대 300ms) 부르므로 최대 800ms쯤 락을 쥔다. 대기열 끝의 요청도 maxQueueDepth x 800ms 안에는 락을 얻으므로,
+ * maxWait 기본값은 그보다 길게 두어 테이블이 평소보다 느려졌을 때만 걸리게 한다.
+ */
+@ConfigurationProperties(prefix = "point.lock.admission")
+public record LockAdmissionProperties(
+	@DefaultValue("20s") Duration maxWait,
+	@DefaultValue("20") int maxQueueDepth
+) {
+
+	public LockAdmissionProperties {
+		if (maxWait.isNegative() || maxWait.isZero()) {
+			throw new IllegalArgumentException("maxWait는 0 보다 커야 합니다. 입력값: %s".formatted(maxWait));
+		}
+		if (maxQueueDepth <= 0) {
+			throw new IllegalArgumentException("maxQueueDepth는 0 보다 커야 합니다. 입력값: %d".formatted(maxQueueDepth));
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락을 잡았거나 기다리는 스레드 수를 세고, 0이 되면 맵에서 락을 제거한다.
+ * 맵에는 지금 사용 중인 userId의 락만 남는다.
+ * 반환된 Lock은 호출한 스레드 안에서만 사용해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.lock.strategy", havingValue = "ref-count", matchIfMissing = true)
+public class RefCountUserIdLockProvider implements UserIdLockProvider {
+
+	private final ConcurrentHashMap<Long, LockEntry> lockMap = new ConcurrentHashMap<>();
+
+	@Override
+	public Lock getUserIdLock(Long id) {
+		return new RefCountLock(id);
+	}
+
+	@Override
+	public int size() {
+		return lockMap.size();
+	}
+
+	private LockEntry retain(Long id) {
+		return lockMap.compute(id, (key, entry) -> {
+			LockEntry retained = entry == null ? new LockEntry() : entry;
+			retained.refCount++;
+			return retained;
+		});
+	}
+
+	private void release(Long id) {
+		lockMap.computeIfPresent(id, (key, entry) -> --entry.refCount == 0 ? null : entry);
+	}
+
+	private static final class LockEntry {
+
+		private final ReentrantLock lock = new ReentrantLock(true);
+		// compute 안에서만 읽고 쓰므로 별도 동기화가 필요 없다.
+		private int refCount;
+	}
+
+	private final class RefCountLock implements Lock {
+
+		private final Long id;
+		private LockEntry acquired;
+		private int holdCount;
+
+		private RefCountLock(Long id) {
+			this.id = id;
+		}
+
+		@Override
+		public void lock() {
+			LockEntry entry = retain(id);
+			entry.lock.lock();
+			onAcquired(entry);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			LockEntry entry = retain(id);
+			try {
+				entry.lock.lockInterruptibly();
+			} catch (InterruptedException e) {
+				release(id);
+				throw e;
+			}
+			onAcquired(entry);
+		}
+
+		@Override
+		public boolean tryLock() {
+			LockEntry entry = retain(id);
+			if (!entry.lock.tryLock()) {
+				release(id);
+				return false;
+			}
+			onAcquired(entry);
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			LockEntry entry = retain(id);
+			boolean locked;
+			try {
+				locked = entry.lock.tryLock(time, unit);
+			} catch (InterruptedException e) {
+				release(id);
+				throw e;
+			}
+			if (!locked) {
+				release(id);
+				return false;
+			}
+			onAcquired(entry);
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			if (acquired == null) {
+				throw new IllegalMonitorStateException("잠그지 않은 락을 해제할 수 없습니다. userId: %d".formatted(id));
+			}
+			ReentrantLock lock = acquired.lock;
+			if (--holdCount == 0) {
+				acquired = null;
+			}
+			lock.unlock();
+			release(id);
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("RefCountLock은 Condition을 지원하지 않습니다.");
+		}
+
+		private void onAcquired(LockEntry entry) {
+			acquired = entry;
+			holdCount++;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.lock.striped")
+public record StripedLockProperties(
+	@DefaultValue("1024") int stripes
+) {
+
+	public StripedLockProperties {
+		if (stripes <= 0) {
+			throw new IllegalArgumentException("stripes는 0 보다 커야 합니다. 입력값: %d".formatted(stripes));
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2의 거듭제곱 개의 락을 미리 만들어두고 userId 해시로 고른다.
+ * 메모리는 사용자 수와 무관하게 고정되지만, 같은 락을 공유하는 서로 다른 사용자끼리는 서로를 기다릴 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.lock.strategy", havingValue = "striped")
+public class StripedUserIdLockProvider implements UserIdLockProvider {
+
+	private final ReentrantLock[] stripes;
+	private final int shift;
+
+	public StripedUserIdLockProvider(StripedLockProperties stripedLockProperties) {
+		int requested = stripedLockProperties.stripes();
+		int size = requested == 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock(true);
+		}
+		this.shift = Long.SIZE - Integer.numberOfTrailingZeros(size);
+	}
+
+	@Override
+	public Lock getUserIdLock(Long id) {
+		return stripes[indexOf(id)];
+	}
+
+	@Override
+	public int size() {
+		return stripes.length;
+	}
+
+	/**
+	 * 락 순서는 userId가 아니라 스트라이프 위치다. id 1, 2가 스트라이프 7, 3에 걸리면 3번 락부터 잡아야 한다.
+	 */
+	@Override
+	public long lockOrderOf(long id) {
+		return indexOf(id);
+	}
+
+	int indexOf(long id) {
+		if (stripes.length == 1) {
+			return 0;
+		}
+		// 연속된 userId가 한 스트라이프에 몰리지 않도록 피보나치 해싱으로 흩뿌린다.
+		return (int)((id * 0x9E3779B97F4A7C15L) >>> shift);
+	}
+}
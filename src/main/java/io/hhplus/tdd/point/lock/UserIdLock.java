@@ -9,4 +9,8 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface UserIdLock {
 
+	/**
+	 * 앞에서부터 몇 개의 파라미터를 사용자 id로 보고 락을 잡을지 정한다.
+	 */
+	int keys() default 1;
 }
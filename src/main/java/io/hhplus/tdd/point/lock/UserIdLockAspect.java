@@ -1,5 +1,7 @@
 package io.hhplus.tdd.point.lock;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -9,26 +11,67 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 락을 기다리는 동안에는 ReentrantLock(AQS)이 LockSupport.park로 스레드를 멈춘다.
+ * synchronized와 달리 가상 스레드가 캐리어 스레드를 붙잡지 않으므로 이 경로에는 synchronized를 쓰지 않는다.
+ *
+ * 한 사용자에게 요청이 몰려 스레드가 모두 묶이지 않도록, 대기열이 maxQueueDepth를 넘으면 기다리지 않고 바로 거절하고
+ * maxWait 안에 락을 얻지 못해도 거절한다. 거절은 UserIdLockRejectedException으로 알린다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class UserIdLockAspect {
 
 	private final UserIdLockProvider userIdLockProvider;
+	private final UserIdLockMetrics userIdLockMetrics;
+	private final LockAdmissionProperties lockAdmissionProperties;
 
-	@Around("@annotation(UserIdLock)")
-	public Object applyLock(ProceedingJoinPoint joinPoint) throws Throwable {
+	@Around("@annotation(userIdLock)")
+	public Object applyLock(ProceedingJoinPoint joinPoint, UserIdLock userIdLock) throws Throwable {
 		Object[] args = joinPoint.getArgs();
 
-		// 첫 번째 파라미터인 id를 Lock의 Key로 사용한다. -> 너무 제한적인 사용의 어노테이션 같기는 하다.
-		Long key = (Long)args[0];
-		Lock userIdLock = userIdLockProvider.getUserIdLock(key);
-		userIdLock.lock();
+		// 앞에서부터 keys개의 파라미터인 id를 Lock의 Key로 사용한다. -> 너무 제한적인 사용의 어노테이션 같기는 하다.
+		// 여러 개면 provider가 정한 락 순서대로 잡으므로, 서로 엇갈린 요청끼리 상대의 락을 기다리며 멈추지 않는다.
+		long[] keys = userIdLockProvider.inLockOrder(Arrays.stream(args, 0, userIdLock.keys())
+			.mapToLong(arg -> (Long)arg)
+			.toArray());
+		Lock[] locks = new Lock[keys.length];
+		long[] acquiredAt = new long[keys.length];
+		int held = 0;
 		try {
+			for (; held < keys.length; held++) {
+				locks[held] = acquire(keys[held]);
+				acquiredAt[held] = System.nanoTime();
+			}
 			return joinPoint.proceed(args);
 		} finally {
-			userIdLock.unlock();
+			for (int i = held - 1; i >= 0; i--) {
+				locks[i].unlock();
+				userIdLockMetrics.released(System.nanoTime() - acquiredAt[i]);
+			}
 		}
+	}
 
+	private Lock acquire(long key) throws InterruptedException {
+		Lock userIdLock = userIdLockProvider.getUserIdLock(key);
+		long waitStart = System.nanoTime();
+		if (userIdLockMetrics.waiting(key) > lockAdmissionProperties.maxQueueDepth()) {
+			userIdLockMetrics.rejectedByQueueDepth(key);
+			throw new UserIdLockRejectedException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+		}
+		boolean locked;
+		try {
+			locked = userIdLock.tryLock(lockAdmissionProperties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			userIdLockMetrics.leave(key);
+			throw e;
+		}
+		if (!locked) {
+			userIdLockMetrics.rejectedByTimeout(key);
+			throw new UserIdLockRejectedException("요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+		}
+		userIdLockMetrics.acquired(key, System.nanoTime() - waitStart);
+		return userIdLock;
 	}
 }
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자 락의 대기/점유 시간과 대기열 길이를 기록한다.
+ * - point.lock.wait : lock()을 호출해서 락을 얻기까지 걸린 시간
+ * - point.lock.hold : 락을 얻은 뒤 해제할 때까지 걸린 시간
+ * - point.lock.held : 지금 잡혀있는 락의 수
+ * - point.lock.registry.size : UserIdLockProvider가 관리 중인 락의 수
+ * - point.lock.queue.length : 대기열이 가장 긴 사용자 상위 10명의 대기 스레드 수 (userId 태그)
+ * - point.lock.rejected : 대기열이 가득 차거나(queue-full) 기다리다 시간이 지나(timeout) 거절한 요청 수
+ */
+@Component
+public class UserIdLockMetrics {
+
+	private static final int HOT_USERS = 10;
+	private static final long REFRESH_SECONDS = 5;
+
+	private final Timer waitTimer;
+	private final Timer holdTimer;
+	private final Counter queueFullRejections;
+	private final Counter timeoutRejections;
+	private final AtomicInteger heldLocks = new AtomicInteger();
+	private final ConcurrentHashMap<Long, AtomicInteger> queueLengths = new ConcurrentHashMap<>();
+	private final MultiGauge hotUserQueueLength;
+	private final ScheduledExecutorService refresher;
+
+	public UserIdLockMetrics(MeterRegistry meterRegistry, UserIdLockProvider userIdLockProvider) {
+		this.waitTimer = Timer.builder("point.lock.wait")
+			.description("사용자 락을 얻기까지 기다린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.holdTimer = Timer.builder("point.lock.hold")
+			.description("사용자 락을 잡고 있던 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.queueFullRejections = Counter.builder("point.lock.rejected")
+			.description("사용자 락 대기열이 가득 차서 거절한 요청 수")
+			.tag("reason", "queue-full")
+			.register(meterRegistry);
+		this.timeoutRejections = Counter.builder("point.lock.rejected")
+			.description("사용자 락을 기다리다 시간이 지나 거절한 요청 수")
+			.tag("reason", "timeout")
+			.register(meterRegistry);
+		Gauge.builder("point.lock.held", heldLocks, AtomicInteger::get)
+			.description("지금 잡혀있는 사용자 락의 수")
+			.register(meterRegistry);
+		Gauge.builder("point.lock.registry.size", userIdLockProvider, UserIdLockProvider::size)
+			.description("UserIdLockProvider가 관리 중인 락의 수")
+			.register(meterRegistry);
+		this.hotUserQueueLength = MultiGauge.builder("point.lock.queue.length")
+			.description("대기열이 가장 긴 사용자들의 락 대기 스레드 수")
+			.register(meterRegistry);
+
+		this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "lock-metrics-refresher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		refresher.scheduleAtFixedRate(this::refreshHotUsers, REFRESH_SECONDS, REFRESH_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	void close() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * 대기열에 들어간 뒤의 대기열 길이를 반환한다.
+	 */
+	public int waiting(long userId) {
+		return queueLengths.compute(userId, (key, length) -> {
+			AtomicInteger counter = length == null ? new AtomicInteger() : length;
+			counter.incrementAndGet();
+			return counter;
+		}).get();
+	}
+
+	public void acquired(long userId, long waitNanos) {
+		leave(userId);
+		heldLocks.incrementAndGet();
+		waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void rejectedByQueueDepth(long userId) {
+		leave(userId);
+		queueFullRejections.increment();
+	}
+
+	public void rejectedByTimeout(long userId) {
+		leave(userId);
+		timeoutRejections.increment();
+	}
+
+	/**
+	 * 락을 얻지 않고 대기열에서 빠진다. (기다리다 interrupt 된 경우)
+	 */
+	public void leave(long userId) {
+		queueLengths.computeIfPresent(userId, (key, length) -> length.decrementAndGet() == 0 ? null : length);
+	}
+
+	public void released(long holdNanos) {
+		heldLocks.decrementAndGet();
+		holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+	}
+
+	void refreshHotUsers() {
+		List<MultiGauge.Row<?>> rows = queueLengths.entrySet().stream()
+			.sorted(Comparator.comparingInt(entry -> -entry.getValue().get()))
+			.limit(HOT_USERS)
+			.<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("userId", entry.getKey().toString()),
+				entry.getValue()))
+			.toList();
+		hotUserQueueLength.register(rows, true);
+	}
+}
@@ -1,17 +1,49 @@
 package io.hhplus.tdd.point.lock;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
-import org.springframework.stereotype.Component;
+/**
+ * userId 별 Lock을 제공한다.
+ * point.lock.strategy 설정으로 구현체를 선택한다.
+ * - map : userId 마다 ReentrantLock을 만들고 지우지 않는다.
+ * - ref-count : 락을 쓰는 스레드가 없어지면 맵에서 제거한다. (기본값)
+ * - striped : 고정 개수의 락 배열에 userId 해시로 매핑한다.
+ */
+public interface UserIdLockProvider {
 
-@Component
-public class UserIdLockProvider {
+	Lock getUserIdLock(Long id);
 
-	private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+	/**
+	 * 지금 관리 중인 락의 수.
+	 */
+	int size();
 
-	public Lock getUserIdLock(Long id) {
-		return lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
+	/**
+	 * 여러 락을 잡을 때의 순서. 값이 같은 id끼리는 같은 락을 쓴다.
+	 * 기본값은 id 그대로이며, 여러 id가 한 락을 나눠 쓰는 구현체는 락의 위치를 반환한다.
+	 */
+	default long lockOrderOf(long id) {
+		return id;
+	}
+
+	/**
+	 * 주어진 id를 lockOrderOf 오름차순으로 정렬하고, 같은 락을 쓰는 id는 하나만 남긴다.
+	 * 여러 락을 잡는 쪽이 모두 이 순서를 따르면 엇갈린 요청끼리 상대의 락을 기다리며 멈추지 않는다.
+	 */
+	default long[] inLockOrder(long... ids) {
+		long[] sorted = Arrays.stream(ids)
+			.boxed()
+			.sorted(Comparator.comparingLong(this::lockOrderOf))
+			.mapToLong(Long::longValue)
+			.toArray();
+		int size = 0;
+		for (long id : sorted) {
+			if (size == 0 || lockOrderOf(sorted[size - 1]) != lockOrderOf(id)) {
+				sorted[size++] = id;
+			}
+		}
+		return Arrays.copyOf(sorted, size);
 	}
 }
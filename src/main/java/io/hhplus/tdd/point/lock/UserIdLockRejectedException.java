@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 사용자 락 대기열이 가득 찼거나 정해진 시간 안에 락을 얻지 못해 요청을 처리하지 않았음을 알린다.
+ */
+public class UserIdLockRejectedException extends RuntimeException {
+
+	public UserIdLockRejectedException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointRepository, PointHistoryRepository 메서드의 지연 시간을 히스토그램으로 기록한다.
+ * 캐시나 비동기 저장소처럼 감싼 구현체와 그 안의 저장소가 repository 태그로 따로 기록된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryLatencyAspect {
+
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+	@Around("execution(* io.hhplus.tdd.point.PointRepository.*(..))"
+		+ " || execution(* io.hhplus.tdd.point.PointHistoryRepository.*(..))")
+	public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer timer = timerOf(joinPoint);
+		long start = System.nanoTime();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer timerOf(ProceedingJoinPoint joinPoint) {
+		String repository = joinPoint.getTarget().getClass().getSimpleName();
+		String method = joinPoint.getSignature().getName();
+		return timers.computeIfAbsent(repository + "." + method, key -> Timer.builder("point.repository.latency")
+			.description("저장소 메서드 지연 시간")
+			.tag("repository", repository)
+			.tag("method", method)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+}
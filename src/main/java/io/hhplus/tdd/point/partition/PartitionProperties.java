@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * partitions가 0 이면 사용 가능한 코어 수만큼 파티션을 만든다.
+ */
+@ConfigurationProperties(prefix = "point.partition")
+public record PartitionProperties(
+	@DefaultValue("0") int partitions,
+	@DefaultValue("100") int maxBatchSize
+) {
+
+	public PartitionProperties {
+		if (partitions < 0) {
+			throw new IllegalArgumentException("partitions는 0 보다 같거나 커야 합니다. 입력값: %d".formatted(partitions));
+		}
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize는 0 보다 커야 합니다. 입력값: %d".formatted(maxBatchSize));
+		}
+		if (partitions == 0) {
+			partitions = Runtime.getRuntime().availableProcessors();
+		}
+	}
+}
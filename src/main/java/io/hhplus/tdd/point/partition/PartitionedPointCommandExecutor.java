@@ -0,0 +1,281 @@
+package io.hhplus.tdd.point.partition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandApplier;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * userId 해시로 정해지는 파티션 스레드 하나가 그 사용자의 모든 변경을 처리한다.
+ * 한 사용자의 변경은 항상 같은 스레드에서 순서대로 실행되므로 사용자 락을 잡지 않는다.
+ * 파티션 스레드는 대기열에 쌓인 요청을 꺼내 사용자별로 묶고, 사용자마다 잔고 읽기/쓰기 한 번으로 반영한다.
+ * 두 사용자를 함께 바꾸는 이체는 두 파티션을 모두 멈춘 상태에서 실행한다.
+ * 반영 중에 Error가 나도 그 묶음의 요청만 실패로 돌려주고 파티션 스레드는 계속 다음 요청을 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.write-mode", havingValue = "partition")
+public class PartitionedPointCommandExecutor implements PointCommandExecutor {
+
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private final PointCommandApplier pointCommandApplier;
+	private final PartitionProperties partitionProperties;
+	private final Partition[] partitions;
+
+	private volatile boolean running = true;
+
+	public PartitionedPointCommandExecutor(PointCommandApplier pointCommandApplier,
+		PartitionProperties partitionProperties) {
+		this.pointCommandApplier = pointCommandApplier;
+		this.partitionProperties = partitionProperties;
+		this.partitions = new Partition[partitionProperties.partitions()];
+		for (int i = 0; i < partitions.length; i++) {
+			partitions[i] = new Partition(i);
+		}
+	}
+
+	@PreDestroy
+	void close() {
+		running = false;
+		for (Partition partition : partitions) {
+			partition.stop();
+		}
+	}
+
+	@Override
+	public UserPoint execute(long userId, PointCommand command) {
+		return join(submit(userId, command));
+	}
+
+	@Override
+	public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands) {
+		return join(submitAll(userId, commands));
+	}
+
+	@Override
+	public CompletableFuture<UserPoint> submit(long userId, PointCommand command) {
+		return submitAll(userId, List.of(command)).thenApply(results -> results.get(0).getOrThrow());
+	}
+
+	public CompletableFuture<List<PointCommandResult>> submitAll(long userId, List<PointCommand> commands) {
+		if (!running) {
+			return CompletableFuture.failedFuture(new IllegalStateException("종료 중이라 요청을 받을 수 없습니다."));
+		}
+		Task task = new Task(userId, commands, new CompletableFuture<>());
+		partitions[partitionOf(userId)].queue.add(task);
+		return task.future;
+	}
+
+	@Override
+	public PointTransferResult transfer(long fromId, long toId, long amount) {
+		return join(submitTransfer(fromId, toId, amount));
+	}
+
+	/**
+	 * 두 사용자가 같은 파티션이면 그 파티션에서 바로 실행한다.
+	 * 다르면 번호가 작은 파티션이 멈춘 채로 번호가 큰 파티션에 이체를 맡기고 끝나기를 기다린다.
+	 * 기다림은 항상 작은 번호에서 큰 번호 방향으로만 생기므로 파티션끼리 서로를 기다리며 멈추지 않는다.
+	 */
+	public CompletableFuture<PointTransferResult> submitTransfer(long fromId, long toId, long amount) {
+		Supplier<PointTransferResult> transfer = () -> pointCommandApplier.transfer(fromId, toId, amount);
+		int fromPartition = partitionOf(fromId);
+		int toPartition = partitionOf(toId);
+		if (fromPartition == toPartition) {
+			return partitions[fromPartition].submitExclusive(transfer);
+		}
+		Partition lower = partitions[Math.min(fromPartition, toPartition)];
+		Partition higher = partitions[Math.max(fromPartition, toPartition)];
+		return lower.submitExclusive(() -> higher.await(higher.submitExclusive(transfer)));
+	}
+
+	int partitionOf(long userId) {
+		// 연속된 id가 한 파티션에 몰리지 않도록 섞은 뒤 나눈다.
+		return (int)Math.floorMod(userId * 0x9E3779B97F4A7C15L, (long)partitions.length);
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private sealed interface Work permits Task, Exclusive {
+
+		CompletableFuture<?> future();
+	}
+
+	private record Task(
+		long userId,
+		List<PointCommand> commands,
+		CompletableFuture<List<PointCommandResult>> future
+	) implements Work {
+	}
+
+	/**
+	 * 앞선 요청을 모두 반영한 뒤 파티션 스레드에서 단독으로 실행하는 작업.
+	 */
+	private record Exclusive(
+		Runnable action,
+		CompletableFuture<?> future
+	) implements Work {
+	}
+
+	private final class Partition {
+
+		private final LinkedBlockingQueue<Work> queue = new LinkedBlockingQueue<>();
+		private final Thread thread;
+
+		private Partition(int index) {
+			thread = new Thread(this::run, "point-partition-" + index);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		private void stop() {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			failRemaining();
+		}
+
+		private void failRemaining() {
+			// 종료하는 사이에 들어온 요청은 처리하지 않고 실패로 돌려준다.
+			List<Work> remaining = new ArrayList<>();
+			queue.drainTo(remaining);
+			IllegalStateException error = new IllegalStateException("종료 중이라 요청을 처리하지 못했습니다.");
+			remaining.forEach(work -> work.future().completeExceptionally(error));
+		}
+
+		private <T> CompletableFuture<T> submitExclusive(Supplier<T> action) {
+			if (!running) {
+				return CompletableFuture.failedFuture(new IllegalStateException("종료 중이라 요청을 받을 수 없습니다."));
+			}
+			CompletableFuture<T> future = new CompletableFuture<>();
+			queue.add(new Exclusive(() -> {
+				try {
+					future.complete(action.get());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			}, future));
+			return future;
+		}
+
+		/**
+		 * 이 파티션에 맡긴 작업이 끝나기를 기다린다.
+		 * 종료 중에 스레드가 먼저 끝나 작업이 대기열에 남으면 실패로 돌려 기다리던 파티션이 멈춰 있지 않게 한다.
+		 */
+		private <T> T await(CompletableFuture<T> future) {
+			while (!future.isDone() && thread.isAlive()) {
+				try {
+					future.get(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException | ExecutionException ignored) {
+					// 완료 여부는 반복 조건에서 다시 확인한다.
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("이체를 기다리는 중에 중단되었습니다.", e);
+				}
+			}
+			if (!future.isDone()) {
+				failRemaining();
+			}
+			return join(future);
+		}
+
+		private void run() {
+			List<Work> batch = new ArrayList<>();
+			while (running) {
+				try {
+					Work first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+					batch.add(first);
+					queue.drainTo(batch, partitionProperties.maxBatchSize() - 1);
+					commit(batch);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (Throwable e) {
+					// 이 스레드가 죽으면 파티션에 들어오는 요청이 모두 멈추므로, 남은 요청만 실패로 돌리고 계속 돈다.
+					log.error("파티션에서 요청을 처리하지 못했습니다.", e);
+					batch.forEach(work -> work.future().completeExceptionally(e));
+				} finally {
+					batch.clear();
+				}
+			}
+		}
+
+		private void commit(List<Work> batch) {
+			List<Task> tasks = new ArrayList<>();
+			for (Work work : batch) {
+				if (work instanceof Task task) {
+					tasks.add(task);
+					continue;
+				}
+				// 단독 작업보다 먼저 들어온 요청을 반영한 뒤에 실행해야 도착 순서가 지켜진다.
+				commitTasks(tasks);
+				tasks.clear();
+				((Exclusive)work).action().run();
+			}
+			commitTasks(tasks);
+		}
+
+		private void commitTasks(List<Task> tasks) {
+			Map<Long, List<Task>> tasksByUser = new LinkedHashMap<>();
+			for (Task task : tasks) {
+				tasksByUser.computeIfAbsent(task.userId(), k -> new ArrayList<>()).add(task);
+			}
+			tasksByUser.forEach(this::commitUser);
+		}
+
+		private void commitUser(long userId, List<Task> tasks) {
+			List<PointCommand> commands = tasks.stream().flatMap(task -> task.commands().stream()).toList();
+			List<PointCommandResult> results;
+			try {
+				results = pointCommandApplier.apply(userId, commands);
+			} catch (Throwable e) {
+				// 저장소 오류처럼 요청 단위가 아닌 실패는 Error까지 같은 묶음의 요청 전부에 전달한다.
+				log.error("파티션에서 포인트를 반영하지 못했습니다. userId: {}", userId, e);
+				tasks.forEach(task -> task.future().completeExceptionally(e));
+				return;
+			}
+			int offset = 0;
+			for (Task task : tasks) {
+				int size = task.commands().size();
+				task.future().complete(List.copyOf(results.subList(offset, offset + size)));
+				offset += size;
+			}
+		}
+	}
+}
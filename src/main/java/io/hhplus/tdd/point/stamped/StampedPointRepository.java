@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.stamped;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 사용자마다 마지막으로 저장된 잔고를 StampedLock으로 지키는 칸에 들고 있는다.
+ * 조회는 낙관적 스탬프로 칸을 읽고 검증만 하므로 조회끼리는 서로 막거나 같은 캐시 라인에 쓰지 않는다.
+ * 읽는 사이 쓰기가 끼어들어 검증에 실패할 때만 읽기 락으로 다시 읽는다.
+ * 저장소 쓰기가 끝난 뒤에 칸을 바꾸므로, saveOrUpdate가 반환된 뒤의 조회는 항상 그 값 이후를 본다.
+ * 같은 사용자의 쓰기는 PointCommandExecutor가 한 번에 하나씩만 들여보낸다는 전제로 순서를 따로 맞추지 않는다.
+ */
+public class StampedPointRepository implements PointRepository {
+
+	private final PointRepository delegate;
+	private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+	public StampedPointRepository(PointRepository delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public UserPoint findById(long id) {
+		Slot slot = slot(id);
+		StampedLock lock = slot.lock;
+
+		long stamp = lock.tryOptimisticRead();
+		boolean loaded = slot.loaded;
+		long point = slot.point;
+		long updateMillis = slot.updateMillis;
+		if (lock.validate(stamp) && loaded) {
+			return new UserPoint(id, point, updateMillis);
+		}
+
+		stamp = lock.readLock();
+		try {
+			if (slot.loaded) {
+				return new UserPoint(id, slot.point, slot.updateMillis);
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+		// 처음 조회하는 사용자는 쓰기 락을 잡고 한 번만 저장소에서 읽어온다.
+		stamp = lock.writeLock();
+		try {
+			if (!slot.loaded) {
+				slot.publish(delegate.findById(id));
+			}
+			return new UserPoint(id, slot.point, slot.updateMillis);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public UserPoint saveOrUpdate(long id, long amount) {
+		return publish(id, delegate.saveOrUpdate(id, amount));
+	}
+
+	@Override
+	public UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+		UserPoint saved = delegate.compareAndSet(id, expected, amount);
+		return saved == null ? null : publish(id, saved);
+	}
+
+	private UserPoint publish(long id, UserPoint saved) {
+		Slot slot = slot(id);
+		long stamp = slot.lock.writeLock();
+		try {
+			slot.publish(saved);
+		} finally {
+			slot.lock.unlockWrite(stamp);
+		}
+		return saved;
+	}
+
+	private Slot slot(long id) {
+		Slot slot = slots.get(id);
+		return slot != null ? slot : slots.computeIfAbsent(id, k -> new Slot());
+	}
+
+	/**
+	 * 필드는 락(또는 검증된 스탬프) 안에서만 읽고 쓴다.
+	 */
+	private static final class Slot {
+
+		private final StampedLock lock = new StampedLock();
+		private boolean loaded;
+		private long point;
+		private long updateMillis;
+
+		private void publish(UserPoint userPoint) {
+			point = userPoint.point();
+			updateMillis = userPoint.updateMillis();
+			loaded = true;
+		}
+	}
+}
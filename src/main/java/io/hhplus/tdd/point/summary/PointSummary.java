@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 사용자의 충전/사용 누계. 이력이 없으면 모두 0 이다.
+ */
+public record PointSummary(
+	long userId,
+	long totalCharged,
+	long totalUsed,
+	long transactionCount,
+	long lastActivityMillis
+) {
+
+	public static PointSummary empty(long userId) {
+		return new PointSummary(userId, 0, 0, 0, 0);
+	}
+
+	public PointSummary add(TransactionType type, long amount, long updateMillis) {
+		return new PointSummary(
+			userId,
+			type == TransactionType.CHARGE ? totalCharged + amount : totalCharged,
+			type == TransactionType.USE ? totalUsed + amount : totalUsed,
+			transactionCount + 1,
+			Math.max(lastActivityMillis, updateMillis)
+		);
+	}
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.summary;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/point")
+@RequiredArgsConstructor
+@Validated
+public class PointSummaryController {
+
+	private final PointSummaryService pointSummaryService;
+
+	/**
+	 * 특정 유저의 총 충전/사용 포인트, 거래 건수, 마지막 거래 시각을 조회한다.
+	 * 이력을 읽지 않고 반영할 때마다 갱신해 둔 누계를 반환한다.
+	 */
+	@GetMapping("{id}/summary")
+	public PointSummary summary(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id
+	) {
+		return pointSummaryService.findPointSummaryOfUser(id);
+	}
+
+	/**
+	 * 특정 유저의 누계를 저장된 이력으로부터 다시 계산한다.
+	 */
+	@PostMapping("{id}/summary/rebuild")
+	public PointSummary rebuild(
+		@PathVariable @Positive(message = "사용자 id는 0 보다 큰 정수여야 합니다.")
+		long id
+	) {
+		return pointSummaryService.rebuildPointSummaryOfUser(id);
+	}
+}
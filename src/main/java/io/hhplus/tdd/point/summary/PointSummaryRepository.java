@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.summary;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Repository;
+
+import io.hhplus.tdd.point.wal.PointJournalEntry;
+
+/**
+ * 사용자별 충전/사용 누계를 메모리에 두고 반영된 변경만큼 더해 간다.
+ * 조회는 마지막으로 만든 PointSummary를 그대로 돌려주므로 이력 건수와 상관없이 O(1) 이다.
+ */
+@Repository
+public class PointSummaryRepository {
+
+	private final ConcurrentHashMap<Long, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+	public PointSummary findByUserId(long userId) {
+		Aggregate aggregate = aggregates.get(userId);
+		return aggregate == null ? PointSummary.empty(userId) : aggregate.summary;
+	}
+
+	/**
+	 * historyWriter로 이력을 남기고 같은 변경을 누계에 더한다.
+	 * 두 일을 사용자별 락 안에서 함께 하므로, 재계산이 읽은 이력과 누계에 더한 변경이 어긋나지 않는다.
+	 */
+	public void record(long userId, List<PointJournalEntry> entries, Runnable historyWriter) {
+		Aggregate aggregate = aggregate(userId);
+		aggregate.lock.lock();
+		try {
+			historyWriter.run();
+			PointSummary summary = aggregate.summary;
+			for (PointJournalEntry entry : entries) {
+				summary = summary.add(entry.type(), entry.amount(), entry.updateMillis());
+			}
+			aggregate.summary = summary;
+		} finally {
+			aggregate.lock.unlock();
+		}
+	}
+
+	/**
+	 * 누계를 summarizer가 이력에서 다시 계산한 값으로 바꾼다.
+	 * 계산하는 동안 이 사용자의 record는 기다린다.
+	 */
+	public PointSummary rebuild(long userId, Supplier<PointSummary> summarizer) {
+		Aggregate aggregate = aggregate(userId);
+		aggregate.lock.lock();
+		try {
+			aggregate.summary = summarizer.get();
+			return aggregate.summary;
+		} finally {
+			aggregate.lock.unlock();
+		}
+	}
+
+	private Aggregate aggregate(long userId) {
+		Aggregate aggregate = aggregates.get(userId);
+		return aggregate != null ? aggregate : aggregates.computeIfAbsent(userId, Aggregate::new);
+	}
+
+	private static final class Aggregate {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile PointSummary summary;
+
+		private Aggregate(long userId) {
+			this.summary = PointSummary.empty(userId);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.summary;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PointSummaryService {
+
+	private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+	private final PointSummaryRepository pointSummaryRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+
+	public PointSummary findPointSummaryOfUser(long userId) {
+		return pointSummaryRepository.findByUserId(userId);
+	}
+
+	/**
+	 * 사용자의 전체 이력을 오래된 순으로 끊어 읽으며 누계를 처음부터 다시 계산한다. 누계가 어긋났을 때 사용한다.
+	 * WAL을 켜면 재시작할 때 누계도 함께 복구되고 메모리 이력은 사용자마다 최근 history-retention 건만 남으므로,
+	 * 그 뒤에는 다시 계산하면 오래된 이력이 빠진 누계가 된다.
+	 */
+	public PointSummary rebuildPointSummaryOfUser(long userId) {
+		return pointSummaryRepository.rebuild(userId, () -> {
+			PointSummary summary = PointSummary.empty(userId);
+			long afterId = 0;
+			List<PointHistory> chunk;
+			do {
+				chunk = pointHistoryRepository.findChunkByUserId(userId, afterId, REBUILD_CHUNK_SIZE);
+				for (PointHistory history : chunk) {
+					summary = summary.add(history.type(), history.amount(), history.updateMillis());
+					afterId = history.id();
+				}
+			} while (chunk.size() == REBUILD_CHUNK_SIZE);
+			return summary;
+		});
+	}
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.wal;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * WAL을 쓰지 않을 때의 기본값. 아무것도 기록하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.wal.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpPointJournal implements PointJournal {
+
+	@Override
+	public void append(List<PointJournalEntry> entries) {
+	}
+}
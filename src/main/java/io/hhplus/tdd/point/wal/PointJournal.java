@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.wal;
+
+import java.util.List;
+
+/**
+ * 잔고와 이력에 반영하기 전에 변경을 기록한다.
+ * append가 반환되면 기록이 디스크에 내려갔다는 뜻이므로, 그 뒤에 잔고와 이력을 바꾸고 응답한다.
+ */
+public interface PointJournal {
+
+	void append(List<PointJournalEntry> entries);
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 충전/사용 한 건. balance는 이 요청을 반영한 뒤의 잔고다.
+ */
+public record PointJournalEntry(
+	long userId,
+	TransactionType type,
+	long amount,
+	long balance,
+	long updateMillis
+) {
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.wal;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 기록은 syncEveryRecords 건이 쌓이거나 가장 오래된 기록이 syncInterval 만큼 기다렸을 때 한 번에 디스크로 내린다.
+ * snapshotInterval 마다 다 쓴 세그먼트를 스냅샷으로 합치고 archive 디렉터리로 옮긴다.
+ * 스냅샷과 재시작 때 복구하는 이력은 사용자마다 최근 historyRetention 건이다.
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record WalProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("data/wal") String directory,
+	@DefaultValue("64MB") DataSize segmentSize,
+	@DefaultValue("100") int syncEveryRecords,
+	@DefaultValue("5ms") Duration syncInterval,
+	@DefaultValue("1m") Duration snapshotInterval,
+	@DefaultValue("1000") int historyRetention
+) {
+
+	public WalProperties {
+		if (segmentSize.toBytes() < WalRecord.SIZE || segmentSize.toBytes() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+				"segmentSize는 %d 바이트 이상 2GB 미만이어야 합니다. 입력값: %s".formatted(WalRecord.SIZE, segmentSize));
+		}
+		if (syncEveryRecords <= 0) {
+			throw new IllegalArgumentException("syncEveryRecords는 0 보다 커야 합니다. 입력값: %d".formatted(syncEveryRecords));
+		}
+		if (syncInterval.isNegative() || syncInterval.isZero()) {
+			throw new IllegalArgumentException("syncInterval은 0 보다 커야 합니다. 입력값: %s".formatted(syncInterval));
+		}
+		if (snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+			throw new IllegalArgumentException("snapshotInterval은 0 보다 커야 합니다. 입력값: %s".formatted(snapshotInterval));
+		}
+		if (historyRetention <= 0) {
+			throw new IllegalArgumentException("historyRetention은 0 보다 커야 합니다. 입력값: %d".formatted(historyRetention));
+		}
+	}
+}
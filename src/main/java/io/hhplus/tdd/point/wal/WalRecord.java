@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.wal;
+
+import java.nio.ByteBuffer;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * WAL 세그먼트에 들어가는 고정 크기 레코드 하나.
+ * seq(8) + userId(8) + type(1) + amount(8) + balance(8) + updateMillis(8) + crc(4)
+ */
+record WalRecord(
+	long seq,
+	PointJournalEntry entry
+) {
+
+	static final int SIZE = 45;
+	private static final int PAYLOAD_SIZE = SIZE - Integer.BYTES;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	static void write(ByteBuffer target, long seq, PointJournalEntry entry, CRC32 crc) {
+		int start = target.position();
+		target.putLong(seq)
+			.putLong(entry.userId())
+			.put((byte)entry.type().ordinal())
+			.putLong(entry.amount())
+			.putLong(entry.balance())
+			.putLong(entry.updateMillis());
+		crc.reset();
+		crc.update(target.slice(start, PAYLOAD_SIZE));
+		target.putInt((int)crc.getValue());
+	}
+
+	/**
+	 * 세그먼트의 처음부터 CRC가 맞는 레코드를 차례로 넘긴다. 쓰다 만 레코드나 빈 공간을 만나면 멈춘다.
+	 * consumer가 false를 반환해 멈췄다면 false를 반환한다.
+	 */
+	static boolean forEach(ByteBuffer segment, CRC32 crc, Predicate<WalRecord> consumer) {
+		for (int position = 0; position + SIZE <= segment.limit(); position += SIZE) {
+			crc.reset();
+			crc.update(segment.slice(position, PAYLOAD_SIZE));
+			if ((int)crc.getValue() != segment.getInt(position + PAYLOAD_SIZE)) {
+				return true;
+			}
+			ByteBuffer decoded = segment.slice(position, PAYLOAD_SIZE);
+			long seq = decoded.getLong();
+			PointJournalEntry entry = new PointJournalEntry(decoded.getLong(), TYPES[decoded.get()], decoded.getLong(),
+				decoded.getLong(), decoded.getLong());
+			if (!consumer.test(new WalRecord(seq, entry))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,231 @@
+package io.hhplus.tdd.point.wal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.summary.PointSummary;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+
+/**
+ * coveredSeq 번 레코드까지 반영한 사용자별 잔고와 충전/사용 누계. 누계의 건수가 곧 사용자별 이력 high-water mark다.
+ * 이력 원본은 archive 디렉터리로 옮긴 세그먼트에 남고, 스냅샷에는 사용자마다 최근 historyRetention 건만 담는다.
+ * 그래서 스냅샷 크기와 재시작 시간은 전체 이력이 아니라 사용자 수 x historyRetention 에 비례한다.
+ *
+ * 파일 형식 : magic(4) coveredSeq(8) userCount(4)
+ * 사용자마다 : userId(8) balance(8) historyCount(8) totalCharged(8) totalUsed(8) lastActivityMillis(8) retainedCount(4)
+ *           { type(1) amount(8) updateMillis(8) } * retainedCount
+ */
+class WalSnapshot {
+
+	private static final int MAGIC = 0x50575332;
+	// 모든 이력을 담던 이전 형식. 읽을 때 최근 historyRetention 건만 남긴다.
+	private static final int LEGACY_MAGIC = 0x50575331;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	private final Map<Long, UserState> users = new LinkedHashMap<>();
+	private final int historyRetention;
+	private long coveredSeq;
+
+	WalSnapshot(int historyRetention) {
+		this.historyRetention = historyRetention;
+	}
+
+	long coveredSeq() {
+		return coveredSeq;
+	}
+
+	int userCount() {
+		return users.size();
+	}
+
+	/**
+	 * 스냅샷에 남긴 건수가 아니라, 사용자별로 지금까지 쌓인 이력 건수의 합.
+	 */
+	long historyCount() {
+		long historyCount = 0;
+		for (UserState state : users.values()) {
+			historyCount += state.summary.transactionCount();
+		}
+		return historyCount;
+	}
+
+	/**
+	 * coveredSeq 다음 레코드를 반영한다. 이미 반영한 레코드는 무시하고, 순번이 끊기면 false를 반환한다.
+	 */
+	boolean apply(WalRecord record) {
+		if (record.seq() <= coveredSeq) {
+			return true;
+		}
+		if (coveredSeq != 0 && record.seq() != coveredSeq + 1) {
+			return false;
+		}
+		PointJournalEntry entry = record.entry();
+		users.computeIfAbsent(entry.userId(), userId -> new UserState(userId, historyRetention))
+			.add(entry.balance(), entry.type(), entry.amount(), entry.updateMillis());
+		coveredSeq = record.seq();
+		return true;
+	}
+
+	/**
+	 * 잔고, 사용자별 최근 이력, 누계를 저장소에 채운다. 이력은 오래된 것부터 넣는다.
+	 * 메모리에는 최근 이력만 남으므로 누계는 이력에서 다시 계산하지 않고 스냅샷의 값을 그대로 쓴다.
+	 */
+	void restore(PointRepository pointRepository, PointHistoryRepository pointHistoryRepository,
+		PointSummaryRepository pointSummaryRepository) {
+		users.forEach((userId, state) -> {
+			pointSummaryRepository.rebuild(userId, () -> state.summary);
+			for (int i = 0; i < state.count; i++) {
+				int index = state.indexOf(i);
+				pointHistoryRepository.saveUserPoint(userId, state.amounts[index], TYPES[state.types[index]],
+					state.millis[index]);
+			}
+			pointRepository.saveOrUpdate(userId, state.balance);
+		});
+	}
+
+	static WalSnapshot read(Path path, int historyRetention) {
+		WalSnapshot snapshot = new WalSnapshot(historyRetention);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			int magic = in.readInt();
+			if (magic != MAGIC && magic != LEGACY_MAGIC) {
+				throw new IllegalStateException("스냅샷 파일 형식이 아닙니다. 파일: %s".formatted(path));
+			}
+			snapshot.coveredSeq = in.readLong();
+			int userCount = in.readInt();
+			for (int i = 0; i < userCount; i++) {
+				long userId = in.readLong();
+				UserState state = new UserState(userId, historyRetention);
+				long balance = in.readLong();
+				PointSummary summary = magic == MAGIC ? readSummary(userId, in) : null;
+				int retainedCount = in.readInt();
+				for (int j = 0; j < retainedCount; j++) {
+					state.add(balance, TYPES[in.readByte()], in.readLong(), in.readLong());
+				}
+				state.balance = balance;
+				if (summary != null) {
+					state.summary = summary;
+				}
+				snapshot.users.put(userId, state);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return snapshot;
+	}
+
+	private static PointSummary readSummary(long userId, DataInputStream in) throws IOException {
+		long historyCount = in.readLong();
+		long totalCharged = in.readLong();
+		long totalUsed = in.readLong();
+		long lastActivityMillis = in.readLong();
+		return new PointSummary(userId, totalCharged, totalUsed, historyCount, lastActivityMillis);
+	}
+
+	/**
+	 * 임시 파일에 다 쓰고 디스크에 내린 뒤 이름을 바꾸므로, 도중에 멈춰도 반쯤 쓴 스냅샷이 남지 않는다.
+	 */
+	void write(Path path) {
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			out.writeInt(MAGIC);
+			out.writeLong(coveredSeq);
+			out.writeInt(users.size());
+			for (Map.Entry<Long, UserState> user : users.entrySet()) {
+				UserState state = user.getValue();
+				out.writeLong(user.getKey());
+				out.writeLong(state.balance);
+				out.writeLong(state.summary.transactionCount());
+				out.writeLong(state.summary.totalCharged());
+				out.writeLong(state.summary.totalUsed());
+				out.writeLong(state.summary.lastActivityMillis());
+				out.writeInt(state.count);
+				for (int i = 0; i < state.count; i++) {
+					int index = state.indexOf(i);
+					out.writeByte(state.types[index]);
+					out.writeLong(state.amounts[index]);
+					out.writeLong(state.millis[index]);
+				}
+			}
+			out.flush();
+			channel.force(true);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		try {
+			Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 최근 이력은 retention 크기까지 늘어나는 원형 버퍼에 담는다. 가득 차면 가장 오래된 이력을 덮어쓴다.
+	 */
+	private static final class UserState {
+
+		private final int retention;
+		private long balance;
+		private PointSummary summary;
+		private int start;
+		private int count;
+		private byte[] types;
+		private long[] amounts;
+		private long[] millis;
+
+		private UserState(long userId, int retention) {
+			this.retention = retention;
+			this.summary = PointSummary.empty(userId);
+			int capacity = Math.min(4, retention);
+			this.types = new byte[capacity];
+			this.amounts = new long[capacity];
+			this.millis = new long[capacity];
+		}
+
+		void add(long balance, TransactionType type, long amount, long updateMillis) {
+			this.balance = balance;
+			summary = summary.add(type, amount, updateMillis);
+			if (count == types.length && count < retention) {
+				int capacity = Math.min(count << 1, retention);
+				types = Arrays.copyOf(types, capacity);
+				amounts = Arrays.copyOf(amounts, capacity);
+				millis = Arrays.copyOf(millis, capacity);
+			}
+			int index;
+			if (count < types.length) {
+				index = (start + count) % types.length;
+				count++;
+			} else {
+				index = start;
+				start = (start + 1) % types.length;
+			}
+			types[index] = (byte)type.ordinal();
+			amounts[index] = amount;
+			millis[index] = updateMillis;
+		}
+
+		/**
+		 * 남아 있는 이력 중 i 번째로 오래된 이력의 배열 위치.
+		 */
+		int indexOf(int i) {
+			return (start + i) % types.length;
+		}
+	}
+}
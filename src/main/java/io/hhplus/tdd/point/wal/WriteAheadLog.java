@@ -0,0 +1,393 @@
+package io.hhplus.tdd.point.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 충전/사용을 고정 크기 레코드로 메모리 맵 파일(세그먼트)에 이어 쓰는 WAL.
+ * 세그먼트 파일 이름은 첫 레코드의 순번이고, 세그먼트가 차면 다음 세그먼트를 만든다.
+ *
+ * 기록마다 fsync 하지 않고 wal-syncer 스레드가 모아서 한 번에 force 한다.
+ * append는 자기 기록이 force 될 때까지 기다리므로, 동시에 들어온 요청들은 fsync 한 번을 나눠 쓴다.
+ *
+ * 시작할 때 가장 최근 스냅샷을 불러오고, 스냅샷 이후의 세그먼트만 순서대로 읽어 이력과 잔고를 다시 만든다.
+ * CRC가 맞지 않는 레코드(쓰다 만 레코드)를 만나면 그 세그먼트는 거기까지만 읽고, 순번이 끊기면 재생을 멈춘다.
+ *
+ * wal-snapshot 스레드는 주기적으로 다 쓴 세그먼트를 이전 스냅샷과 합쳐 새 스냅샷을 만들고 그 세그먼트를 archive 디렉터리로 옮긴다.
+ * 다 쓴 세그먼트는 더 바뀌지 않으므로 스냅샷을 만드는 동안에도 요청은 멈추지 않는다.
+ * 스냅샷에는 잔고와 사용자별 최근 이력만 담으므로, 스냅샷을 만들고 다시 시작하는 비용은 전체 이력 건수와 무관하다.
+ * 전체 이력은 archive 디렉터리의 세그먼트에 남고 재시작할 때 다시 읽지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.wal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WriteAheadLog implements PointJournal {
+
+	private static final String SEGMENT_SUFFIX = ".wal";
+	private static final String SNAPSHOT_SUFFIX = ".snap";
+	private static final String ARCHIVE_DIRECTORY = "archive";
+
+	private final WalProperties walProperties;
+	private final PointRepository pointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointSummaryRepository pointSummaryRepository;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// 새 기록이 들어왔음을 wal-syncer에게 알린다.
+	private final Condition appended = lock.newCondition();
+	// force가 끝났음을 기다리는 append 호출에게 알린다.
+	private final Condition synced = lock.newCondition();
+	// 주기 작업과 직접 호출이 겹쳐도 스냅샷은 한 번에 하나만 만든다.
+	private final ReentrantLock snapshotLock = new ReentrantLock();
+	private final CRC32 crc = new CRC32();
+
+	private Path directory;
+	private Path archiveDirectory;
+	private MappedByteBuffer segment;
+	private long segmentSeq;
+	private long appendedSeq;
+	private long syncedSeq;
+	private long oldestUnsyncedNanos;
+	private volatile boolean running;
+	private Thread syncer;
+	private ScheduledExecutorService snapshotScheduler;
+
+	@PostConstruct
+	void start() {
+		directory = Path.of(walProperties.directory());
+		archiveDirectory = directory.resolve(ARCHIVE_DIRECTORY);
+		try {
+			Files.createDirectories(archiveDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		appendedSeq = recover();
+		syncedSeq = appendedSeq;
+		openSegment(appendedSeq + 1);
+
+		running = true;
+		syncer = new Thread(this::syncLoop, "wal-syncer");
+		syncer.setDaemon(true);
+		syncer.start();
+
+		snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "wal-snapshot");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMillis = walProperties.snapshotInterval().toMillis();
+		snapshotScheduler.scheduleWithFixedDelay(() -> {
+			try {
+				snapshot();
+			} catch (RuntimeException e) {
+				log.error("WAL 스냅샷을 만들지 못했습니다.", e);
+			}
+		}, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void close() {
+		snapshotScheduler.shutdown();
+		try {
+			snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		running = false;
+		lock.lock();
+		try {
+			appended.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			syncer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		lock.lock();
+		try {
+			segment.force();
+			syncedSeq = appendedSeq;
+			synced.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void append(List<PointJournalEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		lock.lock();
+		try {
+			if (!running) {
+				throw new IllegalStateException("WAL이 닫혀 있습니다.");
+			}
+			for (PointJournalEntry entry : entries) {
+				write(entry);
+			}
+			long last = appendedSeq;
+			appended.signal();
+			while (syncedSeq < last) {
+				synced.awaitUninterruptibly();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long appendedSeq() {
+		lock.lock();
+		try {
+			return appendedSeq;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 다 쓴 세그먼트를 가장 최근 스냅샷과 합쳐 새 스냅샷을 쓰고, 이전 스냅샷은 지우고 합친 세그먼트는 archive로 옮긴다.
+	 * 새 스냅샷이 덮는 마지막 순번을 반환한다.
+	 */
+	long snapshot() {
+		snapshotLock.lock();
+		try {
+			return compact();
+		} finally {
+			snapshotLock.unlock();
+		}
+	}
+
+	private long compact() {
+		long activeSeq;
+		lock.lock();
+		try {
+			activeSeq = segmentSeq;
+		} finally {
+			lock.unlock();
+		}
+		List<Path> closedSegments = files(SEGMENT_SUFFIX).stream()
+			.filter(path -> seqOf(path, SEGMENT_SUFFIX) < activeSeq)
+			.toList();
+
+		long startNanos = System.nanoTime();
+		WalSnapshot snapshot = latestSnapshot();
+		long previousSeq = snapshot.coveredSeq();
+		CRC32 snapshotCrc = new CRC32();
+		for (Path path : closedSegments) {
+			if (!WalRecord.forEach(map(path, FileChannel.MapMode.READ_ONLY), snapshotCrc, snapshot::apply)) {
+				log.warn("WAL 순번이 끊겨 스냅샷을 만들지 않습니다. 세그먼트: {}", path);
+				return previousSeq;
+			}
+		}
+
+		if (snapshot.coveredSeq() != previousSeq) {
+			Path written = directory.resolve(fileName(snapshot.coveredSeq(), SNAPSHOT_SUFFIX));
+			snapshot.write(written);
+			for (Path path : files(SNAPSHOT_SUFFIX)) {
+				if (!path.equals(written)) {
+					delete(path);
+				}
+			}
+			log.info("WAL 스냅샷을 만들었습니다. 순번 {}까지, 사용자 {}명, 누적 이력 {}건 ({}ms)", snapshot.coveredSeq(),
+				snapshot.userCount(), snapshot.historyCount(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+		}
+		// 여기까지 왔다면 다 쓴 세그먼트의 레코드는 모두 스냅샷에 들어 있다. 이력 원본으로 남기기 위해 옮겨만 둔다.
+		closedSegments.forEach(this::archive);
+		return snapshot.coveredSeq();
+	}
+
+	private void write(PointJournalEntry entry) {
+		if (segment.remaining() < WalRecord.SIZE) {
+			// 다 찬 세그먼트는 여기서 바로 내려두고 다음 세그먼트로 넘어간다.
+			segment.force();
+			openSegment(appendedSeq + 1);
+		}
+		long seq = appendedSeq + 1;
+		WalRecord.write(segment, seq, entry, crc);
+
+		if (appendedSeq == syncedSeq) {
+			oldestUnsyncedNanos = System.nanoTime();
+		}
+		appendedSeq = seq;
+	}
+
+	private void syncLoop() {
+		long intervalNanos = walProperties.syncInterval().toNanos();
+		while (running) {
+			MappedByteBuffer target;
+			long targetSeq;
+			lock.lock();
+			try {
+				while (running && appendedSeq == syncedSeq) {
+					appended.await();
+				}
+				// 건수가 차거나 가장 오래된 기록의 대기 시간이 다 될 때까지 더 모은다.
+				long deadline = oldestUnsyncedNanos + intervalNanos;
+				while (running && appendedSeq - syncedSeq < walProperties.syncEveryRecords()) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						break;
+					}
+					appended.awaitNanos(remaining);
+				}
+				if (!running) {
+					return;
+				}
+				target = segment;
+				targetSeq = appendedSeq;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				lock.unlock();
+			}
+
+			// force 하는 동안에도 다른 요청은 락을 잡고 이어 쓸 수 있다.
+			try {
+				target.force();
+			} catch (RuntimeException e) {
+				log.error("WAL을 디스크에 내리지 못했습니다.", e);
+				continue;
+			}
+
+			lock.lock();
+			try {
+				syncedSeq = targetSeq;
+				oldestUnsyncedNanos = System.nanoTime();
+				synced.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 스냅샷을 불러온 뒤 스냅샷 이후의 레코드를 재생한다. 이력과 누계는 한 건씩, 잔고는 사용자별 마지막 값만 저장소에 반영한다.
+	 * 마지막으로 반영한 레코드의 순번을 반환한다.
+	 */
+	private long recover() {
+		long startNanos = System.nanoTime();
+		WalSnapshot snapshot = latestSnapshot();
+		snapshot.restore(pointRepository, pointHistoryRepository, pointSummaryRepository);
+
+		Map<Long, Long> balances = new LinkedHashMap<>();
+		long[] lastSeq = {snapshot.coveredSeq()};
+		for (Path path : files(SEGMENT_SUFFIX)) {
+			boolean continuous = WalRecord.forEach(map(path, FileChannel.MapMode.READ_ONLY), crc, record -> {
+				if (record.seq() <= lastSeq[0]) {
+					return true;
+				}
+				if (lastSeq[0] != 0 && record.seq() != lastSeq[0] + 1) {
+					log.warn("WAL 순번이 끊겼습니다. {} 다음에 {} 가 있어 이후 기록은 재생하지 않습니다.", lastSeq[0], record.seq());
+					return false;
+				}
+				PointJournalEntry entry = record.entry();
+				pointSummaryRepository.record(entry.userId(), List.of(entry), () ->
+					pointHistoryRepository.saveUserPoint(entry.userId(), entry.amount(), entry.type(), entry.updateMillis()));
+				balances.put(entry.userId(), entry.balance());
+				lastSeq[0] = record.seq();
+				return true;
+			});
+			if (!continuous) {
+				break;
+			}
+		}
+		balances.forEach(pointRepository::saveOrUpdate);
+
+		log.info("WAL을 복구했습니다. 스냅샷 순번 {}, 재생한 레코드 {}건, 마지막 순번 {} ({}ms)", snapshot.coveredSeq(),
+			lastSeq[0] - snapshot.coveredSeq(), lastSeq[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+		return lastSeq[0];
+	}
+
+	private WalSnapshot latestSnapshot() {
+		List<Path> snapshots = files(SNAPSHOT_SUFFIX);
+		int historyRetention = walProperties.historyRetention();
+		return snapshots.isEmpty()
+			? new WalSnapshot(historyRetention)
+			: WalSnapshot.read(snapshots.get(snapshots.size() - 1), historyRetention);
+	}
+
+	// 파일 이름이 0으로 채운 순번이므로 이름순이 곧 순번순이다.
+	private List<Path> files(String suffix) {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(path -> path.getFileName().toString().endsWith(suffix))
+				.sorted()
+				.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String fileName(long seq, String suffix) {
+		return "%020d%s".formatted(seq, suffix);
+	}
+
+	private long seqOf(Path path, String suffix) {
+		String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(0, name.length() - suffix.length()));
+	}
+
+	private void delete(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void archive(Path path) {
+		try {
+			Files.move(path, archiveDirectory.resolve(path.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void openSegment(long firstSeq) {
+		segment = map(directory.resolve(fileName(firstSeq, SEGMENT_SUFFIX)), FileChannel.MapMode.READ_WRITE);
+		segmentSeq = firstSeq;
+	}
+
+	private MappedByteBuffer map(Path path, FileChannel.MapMode mode) {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE)) {
+			long size = mode == FileChannel.MapMode.READ_WRITE ? walProperties.segmentSize().toBytes() : channel.size();
+			return channel.map(mode, 0, size);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
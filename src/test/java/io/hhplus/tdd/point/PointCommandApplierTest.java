@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.PointJournal;
+import io.hhplus.tdd.point.wal.PointJournalEntry;
+
+class PointCommandApplierTest {
+
+	private final ConflictingPointRepository pointRepository = new ConflictingPointRepository();
+	private final IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+	private final RecordingPointJournal pointJournal = new RecordingPointJournal();
+	private final PointCommandApplier pointCommandApplier = new PointCommandApplier(pointRepository,
+		pointHistoryRepository, pointJournal, new PointSummaryRepository());
+
+	@Test
+	@DisplayName("잔고를 바꿀 때는 이미 기록이 끝나 있고, 기록이 실패하면 잔고와 이력은 바뀌지 않는다.")
+	void shouldJournalBeforeChangingBalance() {
+		// given
+		long userId = 1L;
+		pointRepository.saveOrUpdate(userId, 1_000L);
+
+		// when
+		pointCommandApplier.apply(userId, PointCommand.charge(500L));
+		int journaledBeforeWrite = pointRepository.journaledAtLastWrite;
+		pointJournal.failing = true;
+		Throwable failure = catchThrowable(() -> pointCommandApplier.apply(userId, PointCommand.charge(500L)));
+
+		// then
+		assertAll(
+			() -> assertThat(journaledBeforeWrite).isEqualTo(1),
+			() -> assertThat(failure).isInstanceOf(IllegalStateException.class).hasMessage("기록하지 못했습니다."),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(1_500L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(userId)).hasSize(1)
+		);
+	}
+
+	@Test
+	@DisplayName("이체에서 받는 쪽 잔고를 바꾸지 못하면 보내는 쪽 잔고를 되돌리고, 되돌리지도 못하면 예외에 함께 담는다.")
+	void shouldReportFailedTransferRollback() {
+		// given
+		long fromId = 1L;
+		long toId = 2L;
+		pointRepository.saveOrUpdate(fromId, 1_000L);
+		pointRepository.saveOrUpdate(toId, 1_000L);
+		pointRepository.conflictingIds.add(toId);
+
+		// when
+		Throwable rolledBack = catchThrowable(() -> pointCommandApplier.transfer(fromId, toId, 300L));
+		long fromAfterRollback = pointRepository.findById(fromId).point();
+		pointRepository.conflictingIds.add(fromId);
+		pointRepository.conflictAfterWrites = 1;
+		Throwable notRolledBack = catchThrowable(() -> pointCommandApplier.transfer(fromId, toId, 300L));
+
+		// then
+		assertAll(
+			() -> assertThat(rolledBack).isInstanceOf(IllegalStateException.class),
+			() -> assertThat(rolledBack.getSuppressed()).isEmpty(),
+			() -> assertThat(fromAfterRollback).isEqualTo(1_000L),
+			() -> assertThat(notRolledBack).isInstanceOf(IllegalStateException.class),
+			() -> assertThat(notRolledBack.getSuppressed()).singleElement()
+				.satisfies(suppressed -> assertThat(suppressed).hasMessageContaining("되돌리지 못했습니다"))
+		);
+	}
+
+	/**
+	 * 기록한 건수를 세고, failing이면 기록하지 않고 예외를 던진다.
+	 */
+	private static class RecordingPointJournal implements PointJournal {
+
+		private final List<PointJournalEntry> entries = new ArrayList<>();
+		private boolean failing;
+
+		@Override
+		public void append(List<PointJournalEntry> entries) {
+			if (failing) {
+				throw new IllegalStateException("기록하지 못했습니다.");
+			}
+			this.entries.addAll(entries);
+		}
+	}
+
+	/**
+	 * conflictingIds의 사용자는 conflictAfterWrites번 쓴 뒤부터 다른 쓰기가 끼어든 것처럼 compareAndSet을 거절한다.
+	 */
+	private class ConflictingPointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+		private final List<Long> conflictingIds = new ArrayList<>();
+		private int conflictAfterWrites;
+		private int journaledAtLastWrite;
+
+		@Override
+		public UserPoint findById(long id) {
+			return points.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+
+		@Override
+		public UserPoint compareAndSet(long id, UserPoint expected, long amount) {
+			if (conflictingIds.contains(id) && conflictAfterWrites-- <= 0) {
+				return null;
+			}
+			journaledAtLastWrite = pointJournal.entries.size();
+			return saveOrUpdate(id, amount);
+		}
+	}
+}
@@ -153,6 +153,89 @@ public class PointControllerE2ETest {
 		);
 	}
 
+	@Test
+	@DisplayName("GET /point/{id}/histories?limit= API 요청이 성공한다면 최신순으로 limit 건과 다음 페이지의 cursor를 반환한다.")
+	void findPointHistoryPageById() {
+		// given
+		long userId = 1L;
+		for (int i = 0; i < 5; i++) {
+			pointHistoryRepository.saveUserPoint(userId, 1000L + i, TransactionType.CHARGE, FIXED_TIME);
+		}
+
+		// when
+		PointHistoryPage firstPage = restClient.get()
+			.uri("/point/" + userId + "/histories?limit=3")
+			.retrieve()
+			.body(PointHistoryPage.class);
+		PointHistoryPage secondPage = restClient.get()
+			.uri("/point/" + userId + "/histories?limit=3&cursor=" + firstPage.nextCursor())
+			.retrieve()
+			.body(PointHistoryPage.class);
+
+		// then
+		assertAll(
+			() -> assertThat(firstPage.histories().stream().map(PointHistory::amount).toList())
+				.isEqualTo(List.of(1004L, 1003L, 1002L)),
+			() -> assertThat(firstPage.nextCursor()).isNotNull(),
+			() -> assertThat(secondPage.histories().stream().map(PointHistory::amount).toList())
+				.isEqualTo(List.of(1001L, 1000L)),
+			() -> assertThat(secondPage.nextCursor()).isNull()
+		);
+	}
+
+	@Test
+	@DisplayName("GET /point/{id}/histories?from=&to= API 요청이 성공한다면 범위 안의 이력만 시각 오름차순으로 반환한다.")
+	void findPointHistoriesBetween() {
+		// given
+		long userId = 1L;
+		pointHistoryRepository.saveUserPoint(userId, 100L, TransactionType.CHARGE, 1_000L);
+		pointHistoryRepository.saveUserPoint(userId, 300L, TransactionType.USE, 3_000L);
+		pointHistoryRepository.saveUserPoint(userId, 200L, TransactionType.CHARGE, 2_000L);
+		pointHistoryRepository.saveUserPoint(2L, 400L, TransactionType.CHARGE, 2_000L);
+
+		// when
+		ResponseEntity<List<PointHistory>> response = restClient.get()
+			.uri("/point/" + userId + "/histories?from=2000&to=3001")
+			.retrieve()
+			.toEntity(new ParameterizedTypeReference<>() {
+			});
+
+		// then
+		assertAll(
+			() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+			() -> assertThat(response.getBody().size()).isEqualTo(2),
+			() -> assertThat(response.getBody().get(0).amount()).isEqualTo(200L),
+			() -> assertThat(response.getBody().get(1).amount()).isEqualTo(300L)
+		);
+	}
+
+	@Test
+	@DisplayName("GET /point/{id}/histories/export API 요청이 성공한다면 범위 안의 이력을 한 줄에 하나씩 NDJSON으로 반환한다.")
+	void exportPointHistories() throws Exception {
+		// given
+		long userId = 1L;
+		pointHistoryRepository.saveUserPoint(userId, 100L, TransactionType.CHARGE, 1_000L);
+		pointHistoryRepository.saveUserPoint(userId, 200L, TransactionType.CHARGE, 2_000L);
+		pointHistoryRepository.saveUserPoint(userId, 300L, TransactionType.USE, 3_000L);
+		pointHistoryRepository.saveUserPoint(2L, 400L, TransactionType.CHARGE, 2_000L);
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		// when
+		ResponseEntity<String> response = restClient.get()
+			.uri("/point/" + userId + "/histories/export?from=2000")
+			.retrieve()
+			.toEntity(String.class);
+
+		// then
+		List<String> lines = response.getBody().lines().toList();
+		assertAll(
+			() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+			() -> assertThat(lines.size()).isEqualTo(2),
+			() -> assertThat(objectMapper.readValue(lines.get(0), PointHistory.class).amount()).isEqualTo(200L),
+			() -> assertThat(objectMapper.readValue(lines.get(1), PointHistory.class).amount()).isEqualTo(300L)
+		);
+	}
+
 	@ParameterizedTest
 	@ValueSource(longs = {0, -1})
 	@DisplayName("GET /point/{id}/history API 요청 시 id가 0 이거나 음수라면 400 Bad Request와 ErrorResponse를 반환한다.")
@@ -405,4 +488,64 @@ public class PointControllerE2ETest {
 			);
 		}
 	}
+
+	@Test
+	@DisplayName("PATCH /point/{id}/transfer API 요청이 성공한다면 200 OK와 이체가 반영된 두 사용자의 UserPoint를 반환한다.")
+	void transferPoint() {
+		// given
+		long fromUserId = 1L;
+		long toUserId = 2L;
+		pointRepository.saveOrUpdate(fromUserId, 1000L);
+		pointRepository.saveOrUpdate(toUserId, 500L);
+
+		// when
+		ResponseEntity<PointTransferResult> response = restClient.patch()
+			.uri("/point/" + fromUserId + "/transfer")
+			.body(new PointTransferRequest(toUserId, 300L))
+			.retrieve()
+			.toEntity(PointTransferResult.class);
+
+		// then
+		assertAll(
+			() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+			() -> assertThat(response.getBody().from().point()).isEqualTo(700L),
+			() -> assertThat(response.getBody().to().point()).isEqualTo(800L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(fromUserId).get(0).type())
+				.isEqualTo(TransactionType.USE),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(toUserId).get(0).type())
+				.isEqualTo(TransactionType.CHARGE)
+		);
+	}
+
+	@Test
+	@DisplayName("PATCH /point/{id}/transfer API 요청 시 잔고가 모자라면 400 Bad Request를 반환하고 두 사용자 모두 바뀌지 않는다.")
+	void transferPointFailWhenNotEnoughPoint() {
+		// given
+		long fromUserId = 1L;
+		long toUserId = 2L;
+		long transferAmount = 2000L;
+		pointRepository.saveOrUpdate(fromUserId, 1000L);
+		pointRepository.saveOrUpdate(toUserId, 500L);
+
+		// when
+		try {
+			restClient.patch()
+				.uri("/point/" + fromUserId + "/transfer")
+				.body(new PointTransferRequest(toUserId, transferAmount))
+				.retrieve()
+				.toEntity(PointTransferResult.class);
+		} catch (HttpClientErrorException e) {
+			// then
+			assertAll(
+				() -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST),
+				() -> assertThat(e.getResponseBodyAs(ErrorResponse.class))
+					.isNotNull()
+					.extracting(ErrorResponse::code, ErrorResponse::message)
+					.containsExactly("400",
+						"갖고 있는 포인트를 초과해서 사용할 수 없습니다. 입력값: %d, 현재 포인트 잔고: %d".formatted(transferAmount, 1000)),
+				() -> assertThat(pointRepository.findById(fromUserId).point()).isEqualTo(1000L),
+				() -> assertThat(pointRepository.findById(toUserId).point()).isEqualTo(500L)
+			);
+		}
+	}
 }
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * 동시 클라이언트 10,000개가 한 번씩 요청했을 때 전체 소요 시간과 지연 분포를 잰다.
+ * 조회만 보내는 경우와, 같은 사용자 id에 조회와 PATCH /point/{id}/charge, use 를 섞어 보내는 경우를 따로 잰다.
+ * 섞어 보내면 같은 사용자의 쓰기가 사용자 락을 두고 경합하므로 락 대기로 거절된 요청(429)도 따로 센다.
+ * 빌드가 Java 17 이므로 spring.threads.virtual.enabled는 적용되지 않아 플랫폼 스레드로만 잰다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PointControllerThreadModeBenchmarkTest {
+
+	private static final int CLIENTS = 10_000;
+	private static final int USERS = 1_000;
+	// 사용을 섞어도 잔고가 모자라지 않도록 미리 충전해 둔다. 충전과 사용을 번갈아 보내므로 한도를 넘지 않는다.
+	private static final long SEED_POINT = 50_000L;
+	private static final long WRITE_POINT = 10L;
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(30))
+		.build();
+
+	@Test
+	@DisplayName("동시 클라이언트 10,000개의 GET /point/{id} 처리량과 지연 시간을 잰다.")
+	void run() {
+		measure("read", i -> get(i % USERS + 1));
+	}
+
+	@Test
+	@DisplayName("같은 사용자 id에 GET과 PATCH charge, use 를 섞어 보내는 동시 클라이언트 10,000개의 처리량과 지연 시간을 잰다.")
+	void runMixed() {
+		List<CompletableFuture<HttpResponse<Void>>> seeds = new ArrayList<>(USERS);
+		for (long userId = 1; userId <= USERS; userId++) {
+			seeds.add(client.sendAsync(patch(userId, "charge", SEED_POINT), HttpResponse.BodyHandlers.discarding()));
+		}
+		seeds.forEach(CompletableFuture::join);
+
+		measure("mixed", i -> {
+			long userId = i % USERS + 1;
+			return switch (i % 4) {
+				case 1 -> patch(userId, "charge", WRITE_POINT);
+				case 3 -> patch(userId, "use", WRITE_POINT);
+				default -> get(userId);
+			};
+		});
+	}
+
+	private void measure(String workload, IntFunction<HttpRequest> requestOf) {
+		AtomicInteger ok = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		List<CompletableFuture<Long>> responses = new ArrayList<>(CLIENTS);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < CLIENTS; i++) {
+			HttpRequest request = requestOf.apply(i);
+			long sentAt = System.nanoTime();
+			responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.handle((response, error) -> {
+					if (error == null && response.statusCode() == 200) {
+						ok.incrementAndGet();
+					} else if (error == null && response.statusCode() == 429) {
+						rejected.incrementAndGet();
+					} else {
+						failures.incrementAndGet();
+					}
+					return System.nanoTime() - sentAt;
+				}));
+		}
+		long[] latencies = responses.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		System.out.printf("%-5s jdk=%s clients=%d elapsed=%dms throughput=%d req/s p50=%dms p99=%dms max=%dms "
+				+ "ok=%d rejected=%d failures=%d%n",
+			workload, Runtime.version().feature(), CLIENTS, elapsedMillis,
+			CLIENTS * 1_000L / Math.max(1, elapsedMillis), percentile(latencies, 0.50), percentile(latencies, 0.99),
+			latencies[latencies.length - 1] / 1_000_000, ok.get(), rejected.get(), failures.get());
+	}
+
+	private HttpRequest get(long userId) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId))
+			.timeout(Duration.ofMinutes(2))
+			.GET()
+			.build();
+	}
+
+	private HttpRequest patch(long userId, String action, long amount) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId + "/" + action))
+			.timeout(Duration.ofMinutes(2))
+			.header("Content-Type", "application/json")
+			.method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+			.build();
+	}
+
+	private long percentile(long[] sorted, double percentile) {
+		int index = (int)Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000;
+	}
+}
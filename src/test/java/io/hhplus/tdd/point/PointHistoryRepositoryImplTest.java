@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+
+class PointHistoryRepositoryImplTest {
+
+	private final long FIXED_TIME = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("chunk 조회는 테이블의 전체 조회를 부르지 않고 사용자별 id 색인에서 afterId 다음부터 limit 건을 읽는다.")
+	void shouldReadChunksWithoutScanningTable() {
+		// given
+		CountingPointHistoryTable pointHistoryTable = new CountingPointHistoryTable();
+		PointHistoryRepositoryImpl repository = new PointHistoryRepositoryImpl(pointHistoryTable);
+		for (long amount = 1; amount <= 10; amount++) {
+			repository.saveUserPoint(1L, amount, TransactionType.CHARGE, FIXED_TIME);
+			repository.saveUserPoint(2L, amount, TransactionType.USE, FIXED_TIME);
+		}
+
+		// when
+		List<PointHistory> exported = new ArrayList<>();
+		long afterId = 0;
+		List<PointHistory> chunk;
+		do {
+			chunk = repository.findChunkByUserId(1L, afterId, 3);
+			exported.addAll(chunk);
+			afterId = chunk.isEmpty() ? afterId : chunk.get(chunk.size() - 1).id();
+		} while (chunk.size() == 3);
+
+		int selectCountOfChunks = pointHistoryTable.selectCount;
+
+		// then
+		assertAll(
+			() -> assertThat(selectCountOfChunks).isZero(),
+			() -> assertThat(exported).isEqualTo(pointHistoryTable.selectAllByUserId(1L)),
+			() -> assertThat(repository.findChunkByUserId(3L, 0, 3)).isEmpty()
+		);
+	}
+
+	@Test
+	@DisplayName("페이지 조회는 테이블의 전체 조회를 부르지 않고 사용자별 id 색인에서 cursor 이전부터 최신순으로 limit 건을 읽는다.")
+	void shouldReadPagesWithoutScanningTable() {
+		// given
+		CountingPointHistoryTable pointHistoryTable = new CountingPointHistoryTable();
+		PointHistoryRepositoryImpl repository = new PointHistoryRepositoryImpl(pointHistoryTable);
+		for (long amount = 1; amount <= 10; amount++) {
+			repository.saveUserPoint(1L, amount, TransactionType.CHARGE, FIXED_TIME);
+			repository.saveUserPoint(2L, amount, TransactionType.USE, FIXED_TIME);
+		}
+
+		// when
+		List<PointHistory> exported = new ArrayList<>();
+		Long cursor = null;
+		List<PointHistory> page;
+		do {
+			page = repository.findPageByUserId(1L, cursor, 3);
+			exported.addAll(page);
+			cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).id();
+		} while (page.size() == 3);
+
+		int selectCountOfPages = pointHistoryTable.selectCount;
+		List<PointHistory> newestFirst = new ArrayList<>(pointHistoryTable.selectAllByUserId(1L));
+		Collections.reverse(newestFirst);
+
+		// then
+		assertAll(
+			() -> assertThat(selectCountOfPages).isZero(),
+			() -> assertThat(exported).isEqualTo(newestFirst),
+			() -> assertThat(repository.findPageByUserId(3L, null, 3)).isEmpty()
+		);
+	}
+
+	@Test
+	@DisplayName("시간 범위 조회는 테이블의 전체 조회를 부르지 않고, 시각이 뒤섞여 저장돼도 전체를 걸러낸 결과와 같은 순서로 돌려준다.")
+	void shouldReadTimeRangeWithoutScanningTable() {
+		// given
+		CountingPointHistoryTable pointHistoryTable = new CountingPointHistoryTable();
+		PointHistoryRepositoryImpl repository = new PointHistoryRepositoryImpl(pointHistoryTable);
+		long[] offsets = {5, 1, 3, 3, 0, 7, 2, 3, 9, 4};
+		for (long offset : offsets) {
+			repository.saveUserPoint(1L, offset + 1, TransactionType.CHARGE, FIXED_TIME + offset);
+			repository.saveUserPoint(2L, offset + 1, TransactionType.USE, FIXED_TIME + offset);
+		}
+		PointHistoryRepository fullScan = new PointHistoryRepository() {
+			@Override
+			public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public List<PointHistory> findAllHistoryByUserId(long userId) {
+				return pointHistoryTable.selectAllByUserId(userId);
+			}
+		};
+
+		// when
+		List<PointHistory> between = repository.findAllHistoryByUserIdBetween(1L, FIXED_TIME + 2, FIXED_TIME + 5);
+		List<PointHistory> all = repository.findAllHistoryByUserIdBetween(1L, FIXED_TIME, FIXED_TIME + 10);
+		List<PointHistory> empty = repository.findAllHistoryByUserIdBetween(1L, FIXED_TIME + 5, FIXED_TIME + 2);
+		int selectCountOfRanges = pointHistoryTable.selectCount;
+
+		// then
+		assertAll(
+			() -> assertThat(selectCountOfRanges).isZero(),
+			() -> assertThat(between).extracting(PointHistory::amount).containsExactly(3L, 4L, 4L, 4L, 5L),
+			() -> assertThat(between).isEqualTo(fullScan.findAllHistoryByUserIdBetween(1L, FIXED_TIME + 2, FIXED_TIME + 5)),
+			() -> assertThat(all).isEqualTo(fullScan.findAllHistoryByUserIdBetween(1L, FIXED_TIME, FIXED_TIME + 10)),
+			() -> assertThat(empty).isEmpty(),
+			() -> assertThat(repository.findAllHistoryByUserIdBetween(3L, FIXED_TIME, FIXED_TIME + 10)).isEmpty()
+		);
+	}
+
+	/**
+	 * throttle 지연을 빼고 전체 조회 횟수를 센다.
+	 */
+	private static class CountingPointHistoryTable extends PointHistoryTable {
+
+		private final List<PointHistory> table = new ArrayList<>();
+		private long cursor = 1;
+		private int selectCount;
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+			table.add(pointHistory);
+			return pointHistory;
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			selectCount++;
+			return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.hhplus.tdd.point.commit.GroupCommitPointCommandExecutor;
+import io.hhplus.tdd.point.commit.GroupCommitProperties;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.lock.LockAdmissionProperties;
+import io.hhplus.tdd.point.lock.RefCountUserIdLockProvider;
+import io.hhplus.tdd.point.lock.StripedLockProperties;
+import io.hhplus.tdd.point.lock.StripedUserIdLockProvider;
+import io.hhplus.tdd.point.lock.UserIdLockAspect;
+import io.hhplus.tdd.point.lock.UserIdLockMetrics;
+import io.hhplus.tdd.point.lock.UserIdLockProvider;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.NoOpPointJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 두 사용자가 서로에게 동시에 이체해도 멈추지 않고, 포인트가 새거나 생기지 않는지 확인한다.
+ * 테이블 지연 없이 락 경합만 남도록 메모리 저장소를 쓴다.
+ */
+class PointTransferStressTest {
+
+	private static final long USER_A = 1L;
+	private static final long USER_B = 2L;
+	private static final long INITIAL_POINT = 50_000L;
+	private static final int THREAD_COUNT = 32;
+	private static final int TRANSFERS_PER_THREAD = 500;
+
+	private final InMemoryPointRepository pointRepository = new InMemoryPointRepository();
+	private final ColumnarPointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository();
+	private final PointCommandApplier pointCommandApplier = new PointCommandApplier(pointRepository,
+		pointHistoryRepository, new NoOpPointJournal(), new PointSummaryRepository());
+	private final RefCountUserIdLockProvider refCountUserIdLockProvider = new RefCountUserIdLockProvider();
+	private final StripedUserIdLockProvider stripedUserIdLockProvider = new StripedUserIdLockProvider(
+		new StripedLockProperties(1024));
+
+	@Test
+	@DisplayName("lock 모드에서 A→B, B→A 이체가 엇갈려 들어와도 교착 없이 끝나고 두 사용자의 포인트 합은 유지된다.")
+	void lockModeCrossingTransfers() throws InterruptedException {
+		// given
+		PointCommandExecutor executor = lockModeExecutor(refCountUserIdLockProvider);
+
+		// when & then
+		assertCrossingTransfers(executor);
+	}
+
+	@Test
+	@DisplayName("group-commit 모드에서 A→B, B→A 이체가 엇갈려 들어와도 교착 없이 끝나고 두 사용자의 포인트 합은 유지된다.")
+	void groupCommitModeCrossingTransfers() throws InterruptedException {
+		// given
+		PointCommandExecutor executor = new GroupCommitPointCommandExecutor(refCountUserIdLockProvider,
+			pointCommandApplier, new GroupCommitProperties(100));
+
+		// when & then
+		assertCrossingTransfers(executor);
+	}
+
+	@Test
+	@DisplayName("striped 락에서 id 순서와 스트라이프 순서가 반대인 두 사용자가 엇갈려 이체해도 lock 모드는 교착 없이 끝난다.")
+	void lockModeCrossingTransfersWithStripedLocks() throws InterruptedException {
+		// given
+		assertThat(stripedUserIdLockProvider.lockOrderOf(USER_A))
+			.isGreaterThan(stripedUserIdLockProvider.lockOrderOf(USER_B));
+		PointCommandExecutor executor = lockModeExecutor(stripedUserIdLockProvider);
+
+		// when & then
+		assertCrossingTransfers(executor);
+	}
+
+	@Test
+	@DisplayName("striped 락에서 id 순서와 스트라이프 순서가 반대인 두 사용자가 엇갈려 이체해도 group-commit 모드는 교착 없이 끝난다.")
+	void groupCommitModeCrossingTransfersWithStripedLocks() throws InterruptedException {
+		// given
+		assertThat(stripedUserIdLockProvider.lockOrderOf(USER_A))
+			.isGreaterThan(stripedUserIdLockProvider.lockOrderOf(USER_B));
+		PointCommandExecutor executor = new GroupCommitPointCommandExecutor(stripedUserIdLockProvider,
+			pointCommandApplier, new GroupCommitProperties(100));
+
+		// when & then
+		assertCrossingTransfers(executor);
+	}
+
+	private PointCommandExecutor lockModeExecutor(UserIdLockProvider userIdLockProvider) {
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LockPointCommandExecutor(pointCommandApplier));
+		proxyFactory.setProxyTargetClass(true);
+		UserIdLockMetrics userIdLockMetrics = new UserIdLockMetrics(new SimpleMeterRegistry(), userIdLockProvider);
+		proxyFactory.addAspect(new UserIdLockAspect(userIdLockProvider, userIdLockMetrics,
+			new LockAdmissionProperties(Duration.ofMinutes(1), THREAD_COUNT)));
+		return proxyFactory.getProxy();
+	}
+
+	private void assertCrossingTransfers(PointCommandExecutor executor) throws InterruptedException {
+		pointRepository.saveOrUpdate(USER_A, INITIAL_POINT);
+		pointRepository.saveOrUpdate(USER_B, INITIAL_POINT);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger rejectedCount = new AtomicInteger();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+			CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+			for (int i = 0; i < THREAD_COUNT; i++) {
+				boolean fromA = i % 2 == 0;
+				executorService.submit(() -> {
+					try {
+						for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+							try {
+								executor.transfer(fromA ? USER_A : USER_B, fromA ? USER_B : USER_A, 1_000L);
+								successCount.incrementAndGet();
+							} catch (IllegalArgumentException e) {
+								// 잔고가 모자라거나 한도를 넘는 이체는 양쪽 모두 반영되지 않아야 한다.
+								rejectedCount.incrementAndGet();
+							}
+						}
+					} finally {
+						latch.countDown();
+					}
+				});
+			}
+			latch.await();
+			executorService.shutdown();
+		});
+
+		int total = THREAD_COUNT * TRANSFERS_PER_THREAD;
+
+		assertAll(
+			() -> assertThat(successCount.get() + rejectedCount.get()).isEqualTo(total),
+			() -> assertThat(pointRepository.findById(USER_A).point() + pointRepository.findById(USER_B).point())
+				.isEqualTo(INITIAL_POINT * 2),
+			() -> assertThat(pointHistoryRepository.count()).isEqualTo(successCount.get() * 2L)
+		);
+	}
+
+	private static final class InMemoryPointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+
+		@Override
+		public UserPoint findById(long id) {
+			return points.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * 호출 스레드 200개가 사용자 100명에게 충전 요청 2,000개를 보냈을 때 write-mode별 처리량과 지연 분포를 잰다.
+ * 사용자 한 명에게 요청 20개가 몰리므로, 같은 사용자의 요청을 묶어 처리하는 방식일수록 테이블 호출이 줄어든다.
+ */
+@Tag("benchmark")
+abstract class PointWriteModeBenchmarkTest {
+
+	private static final int CALLERS = 200;
+	private static final int REQUESTS = 2_000;
+	private static final int USERS = 100;
+
+	@Autowired
+	private PointService pointService;
+
+	@Test
+	@DisplayName("write-mode별 충전 처리량과 지연 시간을 잰다.")
+	void run() {
+		ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+		List<CompletableFuture<Long>> requests = new ArrayList<>(REQUESTS);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			long userId = i % USERS + 1;
+			requests.add(CompletableFuture.supplyAsync(() -> {
+				long sentAt = System.nanoTime();
+				pointService.chargePoint(userId, 1L);
+				return System.nanoTime() - sentAt;
+			}, callers));
+		}
+		long[] latencies = requests.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		callers.shutdown();
+
+		System.out.printf("%-13s requests=%d elapsed=%dms throughput=%d req/s p50=%dms p99=%dms max=%dms%n",
+			mode(), REQUESTS, elapsedMillis, REQUESTS * 1_000L / Math.max(1, elapsedMillis),
+			percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000);
+	}
+
+	abstract String mode();
+
+	private long percentile(long[] sorted, double percentile) {
+		int index = (int)Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000;
+	}
+
+	@SpringBootTest(properties = "point.write-mode=lock")
+	static class LockBenchmarkTest extends PointWriteModeBenchmarkTest {
+
+		@Override
+		String mode() {
+			return "lock";
+		}
+	}
+
+	@SpringBootTest(properties = "point.write-mode=group-commit")
+	static class GroupCommitBenchmarkTest extends PointWriteModeBenchmarkTest {
+
+		@Override
+		String mode() {
+			return "group-commit";
+		}
+	}
+
+	@SpringBootTest(properties = "point.write-mode=partition")
+	static class PartitionBenchmarkTest extends PointWriteModeBenchmarkTest {
+
+		@Override
+		String mode() {
+			return "partition";
+		}
+	}
+}
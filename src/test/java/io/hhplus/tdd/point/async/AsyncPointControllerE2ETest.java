@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point.async;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointCommandResult;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.UserPoint;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class AsyncPointControllerE2ETest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	PointRepository pointRepository;
+
+	RestClient restClient;
+
+	@BeforeEach
+	void setUp() {
+		restClient = RestClient.builder()
+			.baseUrl("http://localhost:" + port)
+			.build();
+	}
+
+	@Test
+	@DisplayName("PATCH /point/async/{id}/charge API 요청이 성공한다면 200 OK와 충전된 UserPoint를 반환한다.")
+	void chargePoint() {
+		// given
+		long userId = 1L;
+		long chargeAmount = 1_000L;
+
+		// when
+		ResponseEntity<UserPoint> response = restClient.patch()
+			.uri("/point/async/" + userId + "/charge")
+			.body(chargeAmount)
+			.retrieve()
+			.toEntity(UserPoint.class);
+
+		// then
+		assertAll(
+			() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+			() -> assertThat(response.getBody().point()).isEqualTo(chargeAmount),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(chargeAmount)
+		);
+	}
+
+	@Test
+	@DisplayName("PATCH /point/async/{id}/use API 요청 시 잔고보다 많이 사용하면 400 Bad Request와 ErrorResponse를 반환한다.")
+	void usePointFailWhenOverBalance() {
+		// given
+		long userId = 1L;
+		pointRepository.saveOrUpdate(userId, 100L);
+
+		// when & then
+		assertThatThrownBy(() -> restClient.patch()
+			.uri("/point/async/" + userId + "/use")
+			.body(1_000L)
+			.retrieve()
+			.toEntity(UserPoint.class))
+			.isInstanceOfSatisfying(HttpClientErrorException.class, e -> assertAll(
+				() -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST),
+				() -> assertThat(e.getResponseBodyAs(ErrorResponse.class).code()).isEqualTo("400")
+			));
+	}
+
+	/**
+	 * 테이블 지연에 기대면 Tomcat이 제한 시간을 확인하기(약 1초마다) 전에 요청이 끝나기도 하므로,
+	 * 끝나지 않는 PointCommandExecutor를 대신 넣어 요청이 반드시 제한 시간을 넘기게 한다.
+	 */
+	@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "point.async.timeout=100ms")
+	@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+	static class TimeoutTest {
+
+		@LocalServerPort
+		private int port;
+
+		@TestConfiguration
+		static class NeverCompletingExecutorConfig {
+
+			@Bean
+			@Primary
+			PointCommandExecutor neverCompletingPointCommandExecutor() {
+				return new NeverCompletingPointCommandExecutor();
+			}
+		}
+
+		@Test
+		@DisplayName("요청이 제한 시간 안에 끝나지 않으면 503 Service Unavailable과 ErrorResponse를 반환한다.")
+		void shouldRespondServiceUnavailableOnTimeout() {
+			// given
+			RestClient restClient = RestClient.builder()
+				.baseUrl("http://localhost:" + port)
+				.build();
+
+			// when & then
+			assertThatThrownBy(() -> restClient.patch()
+				.uri("/point/async/1/charge")
+				.body(1_000L)
+				.retrieve()
+				.toEntity(UserPoint.class))
+				.isInstanceOfSatisfying(HttpServerErrorException.class, e -> assertAll(
+					() -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE),
+					() -> assertThat(e.getResponseBodyAs(ErrorResponse.class).message())
+						.isEqualTo("요청 처리 시간이 초과되었습니다.")
+				));
+		}
+	}
+
+	/**
+	 * submit이 돌려준 future를 끝내지 않는다. 비동기 API의 제한 시간 처리만 확인하므로 나머지는 쓰지 않는다.
+	 */
+	private static class NeverCompletingPointCommandExecutor implements PointCommandExecutor {
+
+		@Override
+		public CompletableFuture<UserPoint> submit(long userId, PointCommand command) {
+			return new CompletableFuture<>();
+		}
+
+		@Override
+		public UserPoint execute(long userId, PointCommand command) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<PointCommandResult> executeAll(long userId, List<PointCommand> commands) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public PointTransferResult transfer(long fromId, long toId, long amount) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.async;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class AsyncPointServiceConcurrencyTest {
+
+	@Autowired
+	private AsyncPointService asyncPointService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	private final long FIXED_AMOUNT = 100L;
+
+	@Test
+	@DisplayName("비동기 충전 요청 10개가 같은 사용자에게 동시에 들어와도 사용자 락으로 하나씩 반영되어 포인트는 1_000이 되고 이력도 10개가 남는다.")
+	void chargePointConcurrencyTest() throws InterruptedException {
+		// given
+		long userId = 7L;
+		int threadCount = 10;
+		pointRepository.saveOrUpdate(userId, 0L);
+
+		// when
+		List<CompletableFuture<UserPoint>> results = submitConcurrently(threadCount,
+			() -> asyncPointService.chargePoint(userId, FIXED_AMOUNT));
+
+		// then
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(results).allMatch(result -> !result.isCompletedExceptionally()),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(FIXED_AMOUNT * threadCount),
+			() -> assertThat(histories).hasSize(threadCount)
+		);
+	}
+
+	@Test
+	@DisplayName("1_000 포인트를 가진 사용자에게 100 포인트 비동기 사용 요청 10개가 동시에 들어오면 포인트는 0이 되고 이력도 10개가 남는다.")
+	void usePointConcurrencyTest() throws InterruptedException {
+		// given
+		long userId = 7L;
+		int threadCount = 10;
+		pointRepository.saveOrUpdate(userId, FIXED_AMOUNT * threadCount);
+
+		// when
+		List<CompletableFuture<UserPoint>> results = submitConcurrently(threadCount,
+			() -> asyncPointService.usePoint(userId, FIXED_AMOUNT));
+
+		// then
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(results).allMatch(result -> !result.isCompletedExceptionally()),
+			() -> assertThat(pointRepository.findById(userId).point()).isZero(),
+			() -> assertThat(histories).hasSize(threadCount)
+		);
+	}
+
+	/**
+	 * 호출 스레드 threadCount개가 동시에 요청을 넣고, 모든 요청이 끝날 때까지 기다린다.
+	 */
+	private List<CompletableFuture<UserPoint>> submitConcurrently(
+		int threadCount,
+		Supplier<CompletableFuture<UserPoint>> request
+	) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					CompletableFuture<UserPoint> result = request.get();
+					synchronized (results) {
+						results.add(result);
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		results.forEach(result -> result.exceptionally(error -> null).join());
+		return results;
+	}
+}
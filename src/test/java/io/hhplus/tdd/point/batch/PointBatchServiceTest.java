@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.batch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class PointBatchServiceTest {
+
+	@Autowired
+	private PointBatchService pointBatchService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Test
+	@DisplayName("여러 사용자의 요청을 한 번에 처리하면, 같은 사용자의 요청은 순서대로 반영되고 결과는 요청 순서대로 돌아온다.")
+	void shouldApplyOperationsInOrderPerUser() {
+		// given
+		List<PointBatchOperation> operations = List.of(
+			new PointBatchOperation(1L, TransactionType.CHARGE, 1000L),
+			new PointBatchOperation(2L, TransactionType.CHARGE, 500L),
+			new PointBatchOperation(1L, TransactionType.USE, 300L),
+			new PointBatchOperation(2L, TransactionType.USE, 700L),
+			new PointBatchOperation(1L, TransactionType.USE, 700L)
+		);
+
+		// when
+		List<PointBatchResult> results = pointBatchService.execute(operations);
+
+		// then
+		assertAll(
+			() -> assertThat(results).hasSize(5),
+			() -> assertThat(results.stream().map(PointBatchResult::success).toList())
+				.containsExactly(true, true, true, false, true),
+			() -> assertThat(results.get(0).userPoint().point()).isEqualTo(1000L),
+			() -> assertThat(results.get(2).userPoint().point()).isEqualTo(700L),
+			() -> assertThat(results.get(4).userPoint().point()).isEqualTo(0L),
+			() -> assertThat(results.get(3).error()).isNotBlank(),
+			() -> assertThat(pointRepository.findById(1L).point()).isEqualTo(0L),
+			() -> assertThat(pointRepository.findById(2L).point()).isEqualTo(500L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(1L)).hasSize(3),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(2L)).hasSize(1)
+		);
+	}
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepositoryImpl;
+import io.hhplus.tdd.point.UserPoint;
+
+class CachingPointRepositoryTest {
+
+	@Test
+	@DisplayName("같은 사용자를 두 번 조회하면 두 번째 조회는 저장소를 거치지 않고 캐시에서 반환된다.")
+	void shouldHitCacheOnSecondRead() {
+		// given
+		CountingPointRepository store = new CountingPointRepository();
+		CachingPointRepository repository = new CachingPointRepository(store, properties());
+
+		// when
+		repository.findById(1L);
+		repository.findById(1L);
+
+		// then
+		PointCacheStats stats = repository.stats();
+		assertAll(
+			() -> assertThat(store.selectCount.get()).isEqualTo(1),
+			() -> assertThat(stats.hitCount()).isEqualTo(1),
+			() -> assertThat(stats.missCount()).isEqualTo(1)
+		);
+	}
+
+	@Test
+	@DisplayName("saveOrUpdate가 성공하면 저장소를 다시 읽지 않아도 저장된 잔고가 조회된다.")
+	void shouldUpdateCacheOnWrite() {
+		// given
+		CountingPointRepository store = new CountingPointRepository();
+		CachingPointRepository repository = new CachingPointRepository(store, properties());
+		repository.findById(1L);
+
+		// when
+		repository.saveOrUpdate(1L, 5_000L);
+		UserPoint result = repository.findById(1L);
+
+		// then
+		assertAll(
+			() -> assertThat(result.point()).isEqualTo(5_000L),
+			() -> assertThat(store.selectCount.get()).isEqualTo(1)
+		);
+	}
+
+	private PointCacheProperties properties() {
+		return new PointCacheProperties(true, 100, Duration.ofMinutes(10));
+	}
+
+	private static class CountingPointRepository extends PointRepositoryImpl {
+
+		private final AtomicInteger selectCount = new AtomicInteger();
+
+		private CountingPointRepository() {
+			super(new UserPointTable());
+		}
+
+		@Override
+		public UserPoint findById(long id) {
+			selectCount.incrementAndGet();
+			return super.findById(id);
+		}
+	}
+}
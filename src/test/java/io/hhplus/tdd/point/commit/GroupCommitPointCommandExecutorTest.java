@@ -0,0 +1,228 @@
+package io.hhplus.tdd.point.commit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandApplier;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.lock.ConcurrentMapUserIdLockProvider;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.NoOpPointJournal;
+
+@SpringBootTest(properties = "point.write-mode=group-commit")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class GroupCommitPointCommandExecutorTest {
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointCommandExecutor pointCommandExecutor;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Test
+	@DisplayName("point.write-mode가 group-commit이면 GroupCommitPointCommandExecutor가 사용된다.")
+	void shouldUseGroupCommitExecutor() {
+		assertThat(pointCommandExecutor).isInstanceOf(GroupCommitPointCommandExecutor.class);
+	}
+
+	@Test
+	@DisplayName("0 포인트를 가진 사용자에게 100 포인트 충전 요청이 20개 동시에 들어오면 포인트는 2_000이 되고 이력도 20개가 남는다.")
+	void chargePointConcurrencyTest() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 20;
+		pointRepository.saveOrUpdate(userId, 0L);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.chargePoint(userId, 100L);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		UserPoint findUserPoint = pointRepository.findById(userId);
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(findUserPoint.point()).isEqualTo(2_000L),
+			() -> assertThat(histories).hasSize(threadCount)
+		);
+	}
+
+	@Test
+	@DisplayName("같은 배치에 묶인 요청이라도 한도를 넘는 요청만 거절되고 나머지는 반영된다.")
+	void shouldRejectOnlyOverLimitCommandsInBatch() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 10;
+		pointRepository.saveOrUpdate(userId, 10_000L);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		AtomicInteger successCount = new AtomicInteger(0);
+		List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.usePoint(userId, 2_000L);
+					successCount.incrementAndGet();
+				} catch (Exception e) {
+					exceptions.add(e);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		UserPoint findUserPoint = pointRepository.findById(userId);
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(findUserPoint.point()).isEqualTo(0L),
+			() -> assertThat(successCount.get()).isEqualTo(5),
+			() -> assertThat(exceptions).hasSize(5)
+				.allMatch(IllegalArgumentException.class::isInstance),
+			() -> assertThat(histories).hasSize(5)
+				.allMatch(history -> history.type() == TransactionType.USE)
+		);
+	}
+
+	@Test
+	@DisplayName("요청을 모두 처리하면 사용자별 대기열을 지워, 요청한 사용자 수만큼 대기열이 남지 않는다.")
+	void shouldRemoveEmptyQueues() throws InterruptedException {
+		// given
+		int userCount = 50;
+		int requestsPerUser = 4;
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		CountDownLatch latch = new CountDownLatch(userCount * requestsPerUser);
+
+		// when
+		for (long userId = 1; userId <= userCount; userId++) {
+			long id = userId;
+			for (int i = 0; i < requestsPerUser; i++) {
+				executorService.submit(() -> {
+					try {
+						pointService.chargePoint(id, 100L);
+					} finally {
+						latch.countDown();
+					}
+				});
+			}
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(((GroupCommitPointCommandExecutor)pointCommandExecutor).pendingQueueCount()).isZero(),
+			() -> assertThat(pointRepository.findById(userCount).point()).isEqualTo(100L * requestsPerUser)
+		);
+	}
+
+	@Test
+	@DisplayName("배치 반영 중 Error가 나도 같은 배치의 요청은 모두 실패로 끝나고, 기다리던 스레드가 멈추지 않는다.")
+	void shouldFailWholeBatchOnError() throws Exception {
+		// given
+		long userId = 1L;
+		int threadCount = 5;
+		ConcurrentMapUserIdLockProvider userIdLockProvider = new ConcurrentMapUserIdLockProvider();
+		GroupCommitPointCommandExecutor executor = new GroupCommitPointCommandExecutor(userIdLockProvider,
+			new PointCommandApplier(new ErrorPointRepository(), new IndexedPointHistoryRepository(),
+				new NoOpPointJournal(), new PointSummaryRepository()),
+			new GroupCommitProperties(100));
+		ReentrantLock userIdLock = (ReentrantLock)userIdLockProvider.getUserIdLock(userId);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		// 락을 먼저 잡아 두고 요청을 모두 대기열에 넣은 뒤 풀어서, 처음 락을 얻은 스레드가 한 배치로 가져가게 한다.
+		userIdLock.lock();
+		List<Future<UserPoint>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < threadCount; i++) {
+				results.add(executorService.submit(() -> executor.execute(userId, PointCommand.charge(100L))));
+			}
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (userIdLock.getQueueLength() < threadCount) {
+				assertThat(System.nanoTime()).as("요청이 모두 락을 기다리지 않았습니다.").isLessThan(deadline);
+				Thread.sleep(1);
+			}
+		} finally {
+			userIdLock.unlock();
+		}
+		List<Throwable> failures = new ArrayList<>();
+		for (Future<UserPoint> result : results) {
+			failures.add(catchThrowableOfType(() -> result.get(5, TimeUnit.SECONDS), ExecutionException.class)
+				.getCause());
+		}
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(failures).filteredOn(StackOverflowError.class::isInstance).hasSize(1),
+			() -> assertThat(failures).filteredOn(IllegalStateException.class::isInstance).hasSize(threadCount - 1)
+				.allMatch(failure -> failure.getCause() instanceof StackOverflowError),
+			() -> assertThat(executor.pendingQueueCount()).isLessThanOrEqualTo(1)
+		);
+	}
+
+	/**
+	 * 잔고를 읽으면 Error를 던진다.
+	 */
+	private static class ErrorPointRepository implements PointRepository {
+
+		@Override
+		public UserPoint findById(long id) {
+			throw new StackOverflowError("잔고를 읽지 못했습니다.");
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
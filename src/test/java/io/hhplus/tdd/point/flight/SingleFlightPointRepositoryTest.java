@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point.flight;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightPointRepositoryTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BlockingPointRepository store = new BlockingPointRepository();
+	private final SingleFlightPointRepository repository = new SingleFlightPointRepository(store, meterRegistry);
+	// 조회 스레드가 저장소에서 막혀 있으므로 공용 풀 대신 필요한 만큼 스레드를 만드는 풀을 쓴다.
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 사용자를 동시에 조회하면 저장소는 한 번만 읽고 모든 조회가 같은 결과를 받는다.")
+	void concurrentReadsShouldShareOneCall() throws Exception {
+		// given
+		long userId = 1L;
+		int readers = 20;
+		store.saveOrUpdate(userId, 1_000L);
+
+		// when
+		List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+		results.add(CompletableFuture.supplyAsync(() -> repository.findById(userId), executorService));
+		assertThat(store.entered.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i < readers; i++) {
+			results.add(CompletableFuture.supplyAsync(() -> repository.findById(userId), executorService));
+		}
+		awaitFollowers(readers - 1);
+		store.release.countDown();
+
+		// then
+		List<UserPoint> userPoints = results.stream().map(CompletableFuture::join).toList();
+		assertAll(
+			() -> assertThat(store.selectCount.get()).isEqualTo(1),
+			() -> assertThat(userPoints).hasSize(readers).allMatch(userPoint -> userPoint.point() == 1_000L),
+			() -> assertThat(meterRegistry.get("point.read.single-flight.ratio").gauge().value())
+				.isEqualTo((readers - 1) / (double)readers)
+		);
+	}
+
+	@Test
+	@DisplayName("saveOrUpdate가 끝난 뒤 시작한 조회는 그 전부터 진행 중이던 조회에 합류하지 않고 저장된 잔고를 읽는다.")
+	void readAfterWriteShouldNotJoinOlderFlight() throws Exception {
+		// given
+		long userId = 1L;
+		store.saveOrUpdate(userId, 1_000L);
+		CompletableFuture<UserPoint> before = CompletableFuture.supplyAsync(() -> repository.findById(userId),
+			executorService);
+		assertThat(store.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		repository.saveOrUpdate(userId, 3_000L);
+		CompletableFuture<UserPoint> after = CompletableFuture.supplyAsync(() -> repository.findById(userId),
+			executorService);
+		store.release.countDown();
+
+		// then
+		assertAll(
+			() -> assertThat(before.join().point()).isEqualTo(1_000L),
+			() -> assertThat(after.join().point()).isEqualTo(3_000L),
+			() -> assertThat(store.selectCount.get()).isEqualTo(2)
+		);
+	}
+
+	@Test
+	@DisplayName("조회가 끝나면 결과를 들고 있지 않으므로 다음 조회는 저장소를 다시 읽는다.")
+	void shouldNotKeepResultAfterFlight() {
+		// given
+		long userId = 1L;
+		store.release.countDown();
+
+		// when
+		repository.findById(userId);
+		repository.findById(userId);
+
+		// then
+		assertThat(store.selectCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("저장소 조회가 Error로 끝나도 합류한 조회에 같은 Error를 넘기고, 다음 조회는 저장소를 다시 읽는다.")
+	void shouldPropagateErrorToFollowers() throws Exception {
+		// given
+		long userId = 1L;
+		store.failure = new StackOverflowError("조회 실패");
+		CompletableFuture<UserPoint> leader = CompletableFuture.supplyAsync(() -> repository.findById(userId),
+			executorService);
+		assertThat(store.entered.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<UserPoint> follower = CompletableFuture.supplyAsync(() -> repository.findById(userId),
+			executorService);
+		awaitFollowers(1);
+
+		// when
+		store.release.countDown();
+		Throwable leaderFailure = catchThrowable(leader::join);
+		Throwable followerFailure = catchThrowable(follower::join);
+		store.failure = null;
+		UserPoint retried = repository.findById(userId);
+
+		// then
+		assertAll(
+			() -> assertThat(leaderFailure).hasCauseInstanceOf(StackOverflowError.class),
+			() -> assertThat(followerFailure).hasCauseInstanceOf(StackOverflowError.class),
+			() -> assertThat(retried.point()).isZero(),
+			() -> assertThat(store.selectCount.get()).isEqualTo(2)
+		);
+	}
+
+	private void awaitFollowers(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("point.read.single-flight").tag("role", "follower").counter().count() < expected) {
+			assertThat(System.nanoTime()).as("합류한 조회가 %d 건이 되지 않았습니다.", expected).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+	}
+
+	/**
+	 * 잔고를 읽은 뒤 release가 열릴 때까지 반환하지 않는 저장소. 테이블 조회 지연을 흉내 낸다.
+	 */
+	private static class BlockingPointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+		private final AtomicInteger selectCount = new AtomicInteger();
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private volatile Error failure;
+
+		@Override
+		public UserPoint findById(long id) {
+			selectCount.incrementAndGet();
+			UserPoint userPoint = points.getOrDefault(id, UserPoint.empty(id));
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return userPoint;
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.TransactionType;
+
+class AsyncPointHistoryRepositoryTest {
+
+	private final long FIXED_TIME = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("비동기로 저장한 이력도 조회 시점에는 모두 반영되어 있고 저장한 순서가 유지된다.")
+	void shouldKeepOrderAndReadYourWrites() {
+		// given
+		PointHistoryTable pointHistoryTable = new PointHistoryTable();
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			new PointHistoryRepositoryImpl(pointHistoryTable), new AsyncHistoryProperties(true, 4, 1, 2));
+
+		// when
+		for (long amount = 1; amount <= 10; amount++) {
+			repository.saveUserPoint(1L, amount, TransactionType.CHARGE, FIXED_TIME);
+		}
+		List<PointHistory> histories = repository.findAllHistoryByUserId(1L);
+		repository.close();
+
+		// then
+		assertThat(histories).extracting(PointHistory::amount)
+			.containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+	}
+
+	@Test
+	@DisplayName("close를 호출하면 버퍼에 남아있던 이력을 모두 저장한 뒤 종료하고 이후 저장 요청은 거절한다.")
+	void shouldFlushOnClose() {
+		// given
+		PointHistoryTable pointHistoryTable = new PointHistoryTable();
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			new PointHistoryRepositoryImpl(pointHistoryTable), new AsyncHistoryProperties(true, 16, 1, 4));
+		for (int i = 0; i < 5; i++) {
+			repository.saveUserPoint(1L, 100L, TransactionType.USE, FIXED_TIME);
+		}
+
+		// when
+		repository.close();
+
+		// then
+		assertAll(
+			() -> assertThat(repository.pendingCount()).isZero(),
+			() -> assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(5),
+			() -> assertThatThrownBy(() -> repository.saveUserPoint(1L, 100L, TransactionType.USE, FIXED_TIME))
+				.isInstanceOf(IllegalStateException.class)
+		);
+	}
+
+	@Test
+	@DisplayName("저장소 반영이 잠깐 실패하면 다시 시도해 이력을 버리지 않고 순서대로 반영한다.")
+	void shouldRetryFailedInsert() {
+		// given
+		FlakyPointHistoryRepository delegate = new FlakyPointHistoryRepository(2);
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			delegate, new AsyncHistoryProperties(true, 16, 1, 4));
+
+		// when
+		for (long amount = 1; amount <= 3; amount++) {
+			repository.saveUserPoint(1L, amount, TransactionType.CHARGE, FIXED_TIME);
+		}
+		List<PointHistory> histories = repository.findAllHistoryByUserId(1L);
+		repository.close();
+
+		// then
+		assertAll(
+			() -> assertThat(histories).extracting(PointHistory::amount).containsExactly(1L, 2L, 3L),
+			() -> assertThat(repository.failedCount()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("다시 시도해도 반영하지 못한 이력은 보관했다가 retryFailed로 반영하고, 남은 채로 close하면 예외를 던진다.")
+	void shouldHoldAndSurfaceFailedInsert() {
+		// given
+		FlakyPointHistoryRepository delegate = new FlakyPointHistoryRepository(Integer.MAX_VALUE);
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			delegate, new AsyncHistoryProperties(true, 16, 1, 4));
+		repository.saveUserPoint(1L, 100L, TransactionType.CHARGE, FIXED_TIME);
+		repository.saveUserPoint(2L, 200L, TransactionType.CHARGE, FIXED_TIME);
+		repository.findAllHistoryByUserId(1L);
+
+		// when
+		int failedBeforeRecovery = repository.failedCount();
+		int remainingWhileFailing = repository.retryFailed();
+		delegate.recover();
+		int remainingAfterRecovery = repository.retryFailed();
+
+		repository.saveUserPoint(3L, 300L, TransactionType.USE, FIXED_TIME);
+		repository.findAllHistoryByUserId(3L);
+		delegate.fail(Integer.MAX_VALUE);
+		repository.saveUserPoint(4L, 400L, TransactionType.USE, FIXED_TIME);
+
+		// then
+		assertAll(
+			() -> assertThat(failedBeforeRecovery).isEqualTo(2),
+			() -> assertThat(remainingWhileFailing).isEqualTo(2),
+			() -> assertThat(remainingAfterRecovery).isZero(),
+			() -> assertThat(delegate.findAllHistoryByUserId(1L)).extracting(PointHistory::amount).containsExactly(100L),
+			() -> assertThat(delegate.findAllHistoryByUserId(2L)).extracting(PointHistory::amount).containsExactly(200L),
+			() -> assertThat(delegate.findAllHistoryByUserId(3L)).extracting(PointHistory::amount).containsExactly(300L),
+			() -> assertThatThrownBy(repository::close)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("1건")
+		);
+	}
+
+	@Test
+	@DisplayName("조회는 같은 파티션에 밀려 있는 다른 사용자의 이력을 기다리지 않는다.")
+	void shouldNotWaitForOtherUsersBacklog() throws Exception {
+		// given
+		BlockingPointHistoryRepository delegate = new BlockingPointHistoryRepository(2L);
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			delegate, new AsyncHistoryProperties(true, 16, 1, 4));
+		repository.saveUserPoint(1L, 100L, TransactionType.CHARGE, FIXED_TIME);
+		repository.findAllHistoryByUserId(1L);
+		repository.saveUserPoint(2L, 200L, TransactionType.CHARGE, FIXED_TIME);
+		delegate.entered.await();
+
+		// when
+		CompletableFuture<List<PointHistory>> histories = CompletableFuture.supplyAsync(
+			() -> repository.findAllHistoryByUserId(1L));
+		List<PointHistory> historiesWhileBlocked = histories.get(1, TimeUnit.SECONDS);
+		delegate.release.countDown();
+		List<PointHistory> blockedUserHistories = repository.findAllHistoryByUserId(2L);
+		repository.close();
+
+		// then
+		assertAll(
+			() -> assertThat(historiesWhileBlocked).extracting(PointHistory::amount).containsExactly(100L),
+			() -> assertThat(blockedUserHistories).extracting(PointHistory::amount).containsExactly(200L)
+		);
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차 기다리던 저장은 그 사이에 close가 불려도 버리지 않고 반영한다.")
+	void shouldPersistPutBlockedDuringClose() throws Exception {
+		// given
+		BlockingPointHistoryRepository delegate = new BlockingPointHistoryRepository(1L);
+		AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(
+			delegate, new AsyncHistoryProperties(true, 1, 1, 1));
+		repository.saveUserPoint(1L, 1L, TransactionType.CHARGE, FIXED_TIME);
+		delegate.entered.await();
+		repository.saveUserPoint(1L, 2L, TransactionType.CHARGE, FIXED_TIME);
+		Thread producer = new Thread(() -> repository.saveUserPoint(1L, 3L, TransactionType.CHARGE, FIXED_TIME));
+		producer.start();
+		awaitWaiting(producer);
+
+		// when
+		Thread closer = new Thread(repository::close);
+		closer.start();
+		awaitWaiting(closer);
+		delegate.release.countDown();
+		producer.join();
+		closer.join();
+
+		// then
+		assertAll(
+			() -> assertThat(repository.pendingCount()).isZero(),
+			() -> assertThat(delegate.findAllHistoryByUserId(1L)).extracting(PointHistory::amount)
+				.containsExactly(1L, 2L, 3L)
+		);
+	}
+
+	private void awaitWaiting(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+	}
+
+	/**
+	 * blockedUserId의 이력은 release가 열릴 때까지 저장하지 않고 붙잡아 둔다.
+	 */
+	private static class BlockingPointHistoryRepository extends PointHistoryRepositoryImpl {
+
+		private final long blockedUserId;
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private BlockingPointHistoryRepository(long blockedUserId) {
+			super(new PointHistoryTable());
+			this.blockedUserId = blockedUserId;
+		}
+
+		@Override
+		public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+			if (userId == blockedUserId) {
+				entered.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.saveUserPoint(userId, amount, type, updateMillis);
+		}
+	}
+
+	/**
+	 * 정한 횟수만큼 insert를 실패시킨 뒤에는 PointHistoryRepositoryImpl에 그대로 저장한다.
+	 */
+	private static class FlakyPointHistoryRepository extends PointHistoryRepositoryImpl {
+
+		private final AtomicInteger failuresLeft;
+
+		private FlakyPointHistoryRepository(int failures) {
+			super(new PointHistoryTable());
+			this.failuresLeft = new AtomicInteger(failures);
+		}
+
+		private void fail(int failures) {
+			failuresLeft.set(failures);
+		}
+
+		private void recover() {
+			failuresLeft.set(0);
+		}
+
+		@Override
+		public PointHistory saveUserPoint(long userId, long amount, TransactionType type, long updateMillis) {
+			if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+				throw new IllegalStateException("이력 테이블에 쓰지 못했습니다.");
+			}
+			return super.saveUserPoint(userId, amount, type, updateMillis);
+		}
+	}
+}
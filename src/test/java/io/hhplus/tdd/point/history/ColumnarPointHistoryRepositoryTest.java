@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.history;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+class ColumnarPointHistoryRepositoryTest {
+
+	private final long FIXED_TIME = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("해당 사용자의 이력만 저장한 값 그대로 저장한 순서대로 조회된다.")
+	void shouldReturnOnlyHistoriesOfUser() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+		PointHistory saved = repository.saveUserPoint(1L, 100L, TransactionType.CHARGE, FIXED_TIME);
+		repository.saveUserPoint(2L, 200L, TransactionType.CHARGE, FIXED_TIME);
+		repository.saveUserPoint(1L, 50L, TransactionType.USE, FIXED_TIME + 1);
+
+		// when
+		List<PointHistory> histories = repository.findAllHistoryByUserId(1L);
+
+		// then
+		assertAll(
+			() -> assertThat(histories).hasSize(2),
+			() -> assertThat(histories.get(0)).isEqualTo(saved),
+			() -> assertThat(histories.get(1)).isEqualTo(new PointHistory(3L, 1L, 50L, TransactionType.USE, FIXED_TIME + 1)),
+			() -> assertThat(repository.findAllHistoryByUserId(3L)).isEmpty()
+		);
+	}
+
+	@Test
+	@DisplayName("조회한 뒤에 세그먼트가 늘어날 만큼 이력이 더 쌓여도, 이미 조회한 결과는 바뀌지 않는다.")
+	void shouldKeepReadResultWhileColumnsGrow() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+		repository.saveUserPoint(1L, 100L, TransactionType.CHARGE, FIXED_TIME);
+		List<PointHistory> histories = repository.findAllHistoryByUserId(1L);
+
+		// when
+		for (int i = 0; i < 200_000; i++) {
+			repository.saveUserPoint(i % 2 + 1, i, TransactionType.CHARGE, FIXED_TIME);
+		}
+
+		// then
+		assertAll(
+			() -> assertThat(histories).extracting(PointHistory::amount).containsExactly(100L),
+			() -> assertThat(repository.count()).isEqualTo(200_001L),
+			() -> assertThat(repository.findAllHistoryByUserId(2L)).hasSize(100_000)
+		);
+	}
+
+	@Test
+	@DisplayName("10명의 사용자에게 각 1_000건의 이력을 동시에 저장하면 이력이 누락되지 않고 사용자별로 id 오름차순이 유지된다.")
+	void shouldBeSafeUnderConcurrentAppends() throws InterruptedException {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+		int userCount = 10;
+		int perUser = 1_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+		CountDownLatch latch = new CountDownLatch(userCount * perUser);
+
+		// when
+		for (int i = 0; i < userCount * perUser; i++) {
+			long userId = i % userCount + 1;
+			executorService.submit(() -> {
+				try {
+					repository.saveUserPoint(userId, 1L, TransactionType.CHARGE, FIXED_TIME);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(repository.count()).isEqualTo((long)userCount * perUser);
+		for (long id = 1; id <= userCount; id++) {
+			long userId = id;
+			assertThat(repository.findAllHistoryByUserId(userId))
+				.hasSize(perUser)
+				.allMatch(history -> history.userId() == userId)
+				.isSortedAccordingTo(Comparator.comparingLong(PointHistory::id));
+		}
+	}
+
+	@Test
+	@DisplayName("cursor 보다 작은 id의 이력은 최신순으로, afterId 보다 큰 id의 이력은 오래된 순으로 limit 건만 조회한다.")
+	void shouldReturnPageAndChunk() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+		for (long amount = 1; amount <= 10; amount++) {
+			repository.saveUserPoint(1L, amount, TransactionType.CHARGE, FIXED_TIME);
+			repository.saveUserPoint(2L, amount, TransactionType.CHARGE, FIXED_TIME);
+		}
+		List<PointHistory> firstPage = repository.findPageByUserId(1L, null, 3);
+
+		// when
+		List<PointHistory> secondPage = repository.findPageByUserId(1L, firstPage.get(2).id(), 3);
+		List<PointHistory> chunk = repository.findChunkByUserId(1L, firstPage.get(2).id(), 100);
+
+		// then
+		assertAll(
+			() -> assertThat(firstPage).extracting(PointHistory::amount).containsExactly(10L, 9L, 8L),
+			() -> assertThat(secondPage).extracting(PointHistory::amount).containsExactly(7L, 6L, 5L),
+			() -> assertThat(chunk).extracting(PointHistory::amount).containsExactly(9L, 10L),
+			() -> assertThat(repository.findChunkByUserId(1L, 0L, 2)).extracting(PointHistory::amount)
+				.containsExactly(1L, 2L)
+		);
+	}
+
+	@Test
+	@DisplayName("시각 범위로 조회하면 from(포함) ~ to(미포함)의 이력만 시각 오름차순으로 반환하고, 늦게 도착한 이력도 제자리에 들어간다.")
+	void shouldReturnHistoriesBetween() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+		repository.saveUserPoint(1L, 100L, TransactionType.CHARGE, 1_000L);
+		repository.saveUserPoint(1L, 300L, TransactionType.CHARGE, 3_000L);
+		repository.saveUserPoint(1L, 400L, TransactionType.USE, 4_000L);
+		repository.saveUserPoint(1L, 200L, TransactionType.USE, 2_000L);
+		repository.saveUserPoint(1L, 250L, TransactionType.CHARGE, 2_000L);
+		repository.saveUserPoint(2L, 999L, TransactionType.CHARGE, 2_500L);
+
+		// when
+		List<PointHistory> between = repository.findAllHistoryByUserIdBetween(1L, 2_000L, 4_000L);
+
+		// then
+		assertAll(
+			() -> assertThat(between).extracting(PointHistory::amount).containsExactly(200L, 250L, 300L),
+			() -> assertThat(repository.findAllHistoryByUserIdBetween(1L, 0L, Long.MAX_VALUE))
+				.extracting(PointHistory::amount).containsExactly(100L, 200L, 250L, 300L, 400L),
+			() -> assertThat(repository.findAllHistoryByUserIdBetween(1L, 4_001L, Long.MAX_VALUE)).isEmpty(),
+			() -> assertThat(repository.findAllHistoryByUserIdBetween(3L, 0L, Long.MAX_VALUE)).isEmpty()
+		);
+	}
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * 이력 1,000만 건을 PointHistoryTable 과 같은 ArrayList<PointHistory> 와 HistoryColumns 에 각각 담고
+ * 행당 메모리와 전체 행의 amount 합계를 구하는 scan 처리량을 비교한다.
+ * 메모리는 GC 직후 사용 중인 힙의 차이로 재므로 대략적인 값이다.
+ */
+@Tag("benchmark")
+class HistoryFootprintBenchmarkTest {
+
+	private static final int ROWS = 10_000_000;
+	private static final int SCANS = 10;
+
+	@Test
+	@DisplayName("columnar 저장소는 ArrayList<PointHistory> 보다 행당 메모리가 작고 scan이 빠르다.")
+	void compareFootprintAndScan() {
+		System.out.printf("%-10s %15s %20s%n", "store", "bytes/row", "scan(M rows/s)");
+
+		List<PointHistory> list = measure("list", () -> {
+			List<PointHistory> rows = new ArrayList<>();
+			for (int i = 0; i < ROWS; i++) {
+				rows.add(new PointHistory(i + 1L, i % 100_000, i, TransactionType.CHARGE, i));
+			}
+			return rows;
+		}, rows -> {
+			long sum = 0;
+			for (PointHistory history : rows) {
+				sum += history.amount();
+			}
+			return sum;
+		});
+
+		HistoryColumns columns = measure("columnar", () -> {
+			HistoryColumns rows = new HistoryColumns();
+			for (int i = 0; i < ROWS; i++) {
+				rows.append(i % 100_000, i, TransactionType.CHARGE, i);
+			}
+			return rows;
+		}, rows -> {
+			long sum = 0;
+			for (int row = 0; row < rows.size(); row++) {
+				sum += rows.amountAt(row);
+			}
+			return sum;
+		});
+
+		// 측정이 끝날 때까지 두 저장소가 GC 되지 않도록 붙잡아 둔다.
+		if (list.size() != columns.size()) {
+			throw new IllegalStateException("행 수가 다릅니다.");
+		}
+	}
+
+	private <T> T measure(String store, Supplier<T> builder, Scanner<T> scanner) {
+		long before = usedHeap();
+		T rows = builder.get();
+		long bytesPerRow = (usedHeap() - before) / ROWS;
+
+		long expected = (long)ROWS * (ROWS - 1) / 2;
+		scanner.sum(rows);
+		long start = System.nanoTime();
+		for (int i = 0; i < SCANS; i++) {
+			if (scanner.sum(rows) != expected) {
+				throw new IllegalStateException("scan 결과가 올바르지 않습니다.");
+			}
+		}
+		double rowsPerSecond = (double)ROWS * SCANS / ((System.nanoTime() - start) / 1e9);
+		System.out.printf("%-10s %15d %20.1f%n", store, bytesPerRow, rowsPerSecond / 1e6);
+		return rows;
+	}
+
+	private long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	@FunctionalInterface
+	private interface Scanner<T> {
+		long sum(T rows);
+	}
+}
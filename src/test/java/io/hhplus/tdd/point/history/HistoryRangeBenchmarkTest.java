@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * 한 사용자의 이력을 1만 ~ 100만 건으로 늘려가며 가장 최근 100건에 해당하는 시각 범위를 조회하는 시간을 잰다.
+ * - filter : 전체 이력을 받아 클라이언트처럼 거른다.
+ * - timeline : findAllHistoryByUserIdBetween 으로 시간순 색인을 이진 탐색한다.
+ */
+@Tag("benchmark")
+class HistoryRangeBenchmarkTest {
+
+	private static final long USER_ID = 1L;
+	private static final int RANGE_HISTORIES = 100;
+	private static final int[] USER_HISTORIES = {10_000, 100_000, 1_000_000};
+	private static final int LOOKUPS = 20;
+
+	@Test
+	@DisplayName("사용자의 이력이 늘어나도 시간순 색인으로 찾는 범위 조회 시간은 범위 안의 건수에만 비례한다.")
+	void compareRangeLatency() {
+		System.out.printf("%-10s %-10s %12s %15s%n", "store", "lookup", "user rows", "avg lookup(us)");
+		for (int rows : USER_HISTORIES) {
+			measure("indexed", rows, new IndexedPointHistoryRepository());
+			measure("columnar", rows, new ColumnarPointHistoryRepository());
+		}
+	}
+
+	private void measure(String store, int rows, PointHistoryRepository repository) {
+		for (int i = 1; i <= rows; i++) {
+			repository.saveUserPoint(USER_ID, 1L, TransactionType.CHARGE, i);
+		}
+		long from = rows - RANGE_HISTORIES + 1;
+		report(store, "filter", rows, userId -> repository.findAllHistoryByUserId(userId).stream()
+			.filter(history -> history.updateMillis() >= from)
+			.toList());
+		report(store, "timeline", rows,
+			userId -> repository.findAllHistoryByUserIdBetween(userId, from, Long.MAX_VALUE));
+	}
+
+	private void report(String store, String lookupName, int rows, LongFunction<List<PointHistory>> lookup) {
+		for (int i = 0; i < LOOKUPS; i++) {
+			lookup.apply(USER_ID);
+		}
+		long start = System.nanoTime();
+		int found = 0;
+		for (int i = 0; i < LOOKUPS; i++) {
+			found += lookup.apply(USER_ID).size();
+		}
+		long averageMicros = (System.nanoTime() - start) / LOOKUPS / 1_000;
+		if (found != RANGE_HISTORIES * LOOKUPS) {
+			throw new IllegalStateException("조회 결과가 올바르지 않습니다. found: %d".formatted(found));
+		}
+		System.out.printf("%-10s %-10s %12d %15d%n", store, lookupName, rows, averageMicros);
+	}
+}
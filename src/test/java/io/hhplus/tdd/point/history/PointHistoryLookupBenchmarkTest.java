@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * 전체 이력을 1만 ~ 1,000만 건으로 늘려가며 이력 100건을 가진 사용자 한 명의 조회 시간을 잰다.
+ * - scan : PointHistoryTable.selectAllByUserId 와 같은 방식으로 전역 목록을 훑는다.
+ * - indexed : IndexedPointHistoryRepository
+ */
+@Tag("benchmark")
+class PointHistoryLookupBenchmarkTest {
+
+	private static final long TARGET_USER = 0L;
+	private static final int TARGET_HISTORIES = 100;
+	private static final int[] TOTAL_ROWS = {10_000, 100_000, 1_000_000, 10_000_000};
+	private static final int LOOKUPS = 20;
+
+	@Test
+	@DisplayName("전체 이력이 늘어나도 indexed 저장소의 사용자 이력 조회 시간은 일정하다.")
+	void compareLookupLatency() {
+		System.out.printf("%-10s %12s %15s%n", "store", "total rows", "avg lookup(us)");
+		for (int totalRows : TOTAL_ROWS) {
+			List<PointHistory> table = new ArrayList<>(totalRows);
+			fill(totalRows, (id, userId) -> table.add(new PointHistory(id, userId, 1L, TransactionType.CHARGE, id)));
+			report("scan", totalRows, userId -> table.stream().filter(it -> it.userId() == userId).toList());
+		}
+		for (int totalRows : TOTAL_ROWS) {
+			IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository();
+			fill(totalRows, (id, userId) -> repository.saveUserPoint(userId, 1L, TransactionType.CHARGE, id));
+			report("indexed", totalRows, repository::findAllHistoryByUserId);
+		}
+	}
+
+	private void fill(int totalRows, RowWriter writer) {
+		// 대상 사용자의 이력을 전체 목록에 고르게 흩어 놓는다.
+		int stride = totalRows / TARGET_HISTORIES;
+		for (int i = 0; i < totalRows; i++) {
+			long userId = i % stride == 0 ? TARGET_USER : i % 100_000 + 1;
+			writer.write(i + 1, userId);
+		}
+	}
+
+	private void report(String store, int totalRows, LongFunction<List<PointHistory>> lookup) {
+		for (int i = 0; i < LOOKUPS; i++) {
+			lookup.apply(TARGET_USER);
+		}
+		long start = System.nanoTime();
+		int found = 0;
+		for (int i = 0; i < LOOKUPS; i++) {
+			found += lookup.apply(TARGET_USER).size();
+		}
+		long averageMicros = (System.nanoTime() - start) / LOOKUPS / 1_000;
+		if (found != TARGET_HISTORIES * LOOKUPS) {
+			throw new IllegalStateException("조회 결과가 올바르지 않습니다. found: %d".formatted(found));
+		}
+		System.out.printf("%-10s %12d %15d%n", store, totalRows, averageMicros);
+	}
+
+	@FunctionalInterface
+	private interface RowWriter {
+		void write(long id, long userId);
+	}
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.UserPoint;
+
+class IdempotencyCacheTest {
+
+	private final IdempotencyCache idempotencyCache = new IdempotencyCache(
+		new IdempotencyProperties(100, Duration.ofMinutes(10)));
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	@DisplayName("같은 사용자와 같은 키로 다시 요청하면 반영하지 않고 처음 결과를 돌려준다.")
+	void shouldReturnStoredResultForSameKey() {
+		// given
+		UserPoint first = idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// when
+		UserPoint retried = idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// then
+		assertAll(
+			() -> assertThat(retried).isSameAs(first),
+			() -> assertThat(executions.get()).isEqualTo(1)
+		);
+	}
+
+	@Test
+	@DisplayName("키가 없거나, 같은 키라도 사용자가 다르면 각각 반영한다.")
+	void shouldExecuteWithoutKeyOrForOtherUser() {
+		// when
+		idempotencyCache.execute(1L, null, PointCommand.charge(1_000L), this::charge);
+		idempotencyCache.execute(1L, null, PointCommand.charge(1_000L), this::charge);
+		idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+		idempotencyCache.execute(2L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// then
+		assertThat(executions.get()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 요청을 보내면 IllegalArgumentException으로 거절한다.")
+	void shouldRejectDifferentCommandForSameKey() {
+		// given
+		idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// when & then
+		assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", PointCommand.use(1_000L), this::charge))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다. Idempotency-Key: key-1");
+	}
+
+	@Test
+	@DisplayName("실패한 요청은 저장하지 않으므로 같은 키로 다시 시도하면 다시 반영한다.")
+	void shouldNotStoreFailure() {
+		// given
+		assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), () -> {
+			executions.incrementAndGet();
+			throw new IllegalArgumentException("실패");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		// when
+		UserPoint retried = idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// then
+		assertAll(
+			() -> assertThat(retried.point()).isEqualTo(1_000L),
+			() -> assertThat(executions.get()).isEqualTo(2)
+		);
+	}
+
+	@Test
+	@DisplayName("요청이 Error로 끝나도 저장하지 않으므로 같은 키로 다시 시도하면 다시 반영한다.")
+	void shouldNotStoreError() {
+		// given
+		assertThatThrownBy(() -> idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), () -> {
+			executions.incrementAndGet();
+			throw new StackOverflowError("실패");
+		})).isInstanceOf(StackOverflowError.class);
+
+		// when
+		UserPoint retried = idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+
+		// then
+		assertAll(
+			() -> assertThat(retried.point()).isEqualTo(1_000L),
+			() -> assertThat(executions.get()).isEqualTo(2)
+		);
+	}
+
+	@Test
+	@DisplayName("같은 키의 요청이 동시에 들어와도 한 번만 반영하고 모두 같은 결과를 받는다.")
+	void concurrentRetriesShouldExecuteOnce() throws InterruptedException {
+		// given
+		int threadCount = 20;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		AtomicInteger sameResults = new AtomicInteger();
+		UserPoint[] firstResult = new UserPoint[1];
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					UserPoint result = idempotencyCache.execute(1L, "key-1", PointCommand.charge(1_000L), this::charge);
+					synchronized (firstResult) {
+						if (firstResult[0] == null) {
+							firstResult[0] = result;
+						}
+						if (firstResult[0] == result) {
+							sameResults.incrementAndGet();
+						}
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(executions.get()).isEqualTo(1),
+			() -> assertThat(sameResults.get()).isEqualTo(threadCount)
+		);
+	}
+
+	private UserPoint charge() {
+		executions.incrementAndGet();
+		return new UserPoint(1L, 1_000L, System.currentTimeMillis());
+	}
+}
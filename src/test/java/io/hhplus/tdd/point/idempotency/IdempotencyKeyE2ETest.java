@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.client.RestClient;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class IdempotencyKeyE2ETest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	PointRepository pointRepository;
+
+	@Autowired
+	PointHistoryRepository pointHistoryRepository;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	RestClient restClient;
+
+	@BeforeEach
+	void setUp() {
+		restClient = RestClient.builder()
+			.baseUrl("http://localhost:" + port)
+			.build();
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 충전을 다시 요청하면 사용자 락을 다시 잡지 않고 처음 응답과 같은 UserPoint를 반환한다.")
+	void retriedChargeShouldBeAppliedOnce() {
+		// given
+		long userId = 1L;
+		UserPoint first = charge(userId, 1_000L, "retry-key");
+		long lockAcquisitions = meterRegistry.get("point.lock.wait").timer().count();
+
+		// when
+		UserPoint retried = charge(userId, 1_000L, "retry-key");
+
+		// then
+		assertAll(
+			() -> assertThat(retried).isEqualTo(first),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(1_000L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(userId)).hasSize(1),
+			() -> assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(lockAcquisitions)
+		);
+	}
+
+	@Test
+	@DisplayName("Idempotency-Key가 다르면 같은 금액이라도 각각 충전한다.")
+	void differentKeysShouldBeAppliedSeparately() {
+		// given
+		long userId = 1L;
+
+		// when
+		charge(userId, 1_000L, "key-1");
+		UserPoint second = charge(userId, 1_000L, "key-2");
+
+		// then
+		assertAll(
+			() -> assertThat(second.point()).isEqualTo(2_000L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(userId)).hasSize(2)
+		);
+	}
+
+	private UserPoint charge(long userId, long amount, String idempotencyKey) {
+		return restClient.patch()
+			.uri("/point/" + userId + "/charge")
+			.header("Idempotency-Key", idempotencyKey)
+			.body(amount)
+			.retrieve()
+			.body(UserPoint.class);
+	}
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.json;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+class PointJsonHttpMessageConverterTest {
+
+	private static final Type HISTORIES_TYPE = ResolvableType.forClassWithGenerics(List.class, PointHistory.class)
+		.getType();
+
+	private final PointJsonHttpMessageConverter converter = new PointJsonHttpMessageConverter();
+	private final MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter();
+
+	@Test
+	@DisplayName("UserPoint는 Jackson과 같은 JSON으로 쓴다.")
+	void shouldWriteUserPointLikeJackson() throws IOException {
+		// given
+		UserPoint userPoint = new UserPoint(1L, 100_000L, 1_700_000_000_000L);
+
+		// when & then
+		assertThat(write(converter, userPoint, UserPoint.class))
+			.isEqualTo(write(jacksonConverter, userPoint, UserPoint.class))
+			.isEqualTo("{\"id\":1,\"point\":100000,\"updateMillis\":1700000000000}");
+	}
+
+	@Test
+	@DisplayName("PointHistory는 음수와 long 경계값까지 Jackson과 같은 JSON으로 쓴다.")
+	void shouldWritePointHistoryLikeJackson() throws IOException {
+		// given
+		PointHistory minimum = new PointHistory(Long.MIN_VALUE, -1L, 0L, TransactionType.USE, -9L);
+		PointHistory maximum = new PointHistory(Long.MAX_VALUE, 10L, 999_999_999L, TransactionType.CHARGE, 0L);
+
+		// when & then
+		assertAll(
+			() -> assertThat(write(converter, minimum, PointHistory.class))
+				.isEqualTo(write(jacksonConverter, minimum, PointHistory.class)),
+			() -> assertThat(write(converter, maximum, PointHistory.class))
+				.isEqualTo(write(jacksonConverter, maximum, PointHistory.class))
+		);
+	}
+
+	@Test
+	@DisplayName("버퍼보다 큰 이력 목록도 여러 번 나눠 내보내 Jackson과 같은 JSON으로 쓴다.")
+	void shouldWriteHistoriesLargerThanBufferLikeJackson() throws IOException {
+		// given
+		List<PointHistory> histories = new ArrayList<>();
+		for (int i = 1; i <= 1_000; i++) {
+			TransactionType type = i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			histories.add(new PointHistory(i, 1L, i * 10L, type, 1_700_000_000_000L + i));
+		}
+
+		// when
+		String written = write(converter, histories, HISTORIES_TYPE);
+
+		// then
+		assertAll(
+			() -> assertThat(written).isEqualTo(write(jacksonConverter, histories, HISTORIES_TYPE)),
+			() -> assertThat(write(converter, List.of(), HISTORIES_TYPE)).isEqualTo("[]")
+		);
+	}
+
+	@Test
+	@DisplayName("UserPoint, PointHistory, List<PointHistory> 응답만 맡고 요청 본문은 읽지 않는다.")
+	void shouldOnlyWriteSupportedTypes() {
+		// given
+		Type userPoints = ResolvableType.forClassWithGenerics(List.class, UserPoint.class).getType();
+
+		// when & then
+		assertAll(
+			() -> assertThat(converter.canWrite(UserPoint.class, UserPoint.class, MediaType.APPLICATION_JSON)).isTrue(),
+			() -> assertThat(converter.canWrite(HISTORIES_TYPE, ArrayList.class, MediaType.APPLICATION_JSON)).isTrue(),
+			() -> assertThat(converter.canWrite(userPoints, ArrayList.class, MediaType.APPLICATION_JSON)).isFalse(),
+			() -> assertThat(converter.canWrite(String.class, String.class, MediaType.APPLICATION_JSON)).isFalse(),
+			() -> assertThat(converter.canWrite(UserPoint.class, UserPoint.class, MediaType.TEXT_PLAIN)).isFalse(),
+			() -> assertThat(converter.canRead(UserPoint.class, null, MediaType.APPLICATION_JSON)).isFalse()
+		);
+	}
+
+	private String write(
+		GenericHttpMessageConverter<Object> messageConverter,
+		Object body,
+		Type type
+	) throws IOException {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		messageConverter.write(body, type, MediaType.APPLICATION_JSON, outputMessage);
+		return outputMessage.getBodyAsString();
+	}
+}
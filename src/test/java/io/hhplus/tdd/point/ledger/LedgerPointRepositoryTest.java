@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point.ledger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+
+@SpringBootTest(properties = "point.repository=ledger")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class LedgerPointRepositoryTest {
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private UserPointTable userPointTable;
+
+	@Test
+	@DisplayName("point.repository가 ledger이면 잔고를 저장한 즉시 조회할 수 있고 flush 이후 테이블에도 반영된다.")
+	void shouldWriteBehindToTable() {
+		// given
+		long userId = 1L;
+		LedgerPointRepository ledger = (LedgerPointRepository)pointRepository;
+
+		// when
+		ledger.saveOrUpdate(userId, 1_000L);
+		UserPoint fromLedger = ledger.findById(userId);
+		ledger.flush();
+
+		// then
+		assertAll(
+			() -> assertThat(fromLedger.point()).isEqualTo(1_000L),
+			() -> assertThat(userPointTable.selectById(userId).point()).isEqualTo(1_000L),
+			() -> assertThat(ledger.pendingCount()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("한도를 넘는 갱신은 예외가 발생하고 슬롯의 잔고는 바뀌지 않는다.")
+	void shouldKeepSlotWhenUpdateIsRejected() {
+		// given
+		long userId = 1L;
+		LedgerPointRepository ledger = (LedgerPointRepository)pointRepository;
+		ledger.saveOrUpdate(userId, 95_000L);
+
+		// when
+		assertThatThrownBy(() -> ledger.charge(userId, 10_000L))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		// then
+		assertThat(ledger.findById(userId).point()).isEqualTo(95_000L);
+	}
+
+	@Test
+	@DisplayName("0 포인트를 가진 사용자에게 100 포인트 충전 요청이 20개 동시에 들어와도 잔고는 2_000이 되고 테이블에는 마지막 값이 반영된다.")
+	void chargePointConcurrencyTest() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 20;
+		LedgerPointRepository ledger = (LedgerPointRepository)pointRepository;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.chargePoint(userId, 100L);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		ledger.flush();
+
+		// then
+		assertAll(
+			() -> assertThat(ledger.findById(userId).point()).isEqualTo(2_000L),
+			() -> assertThat(userPointTable.selectById(userId).point()).isEqualTo(2_000L)
+		);
+	}
+
+	@Test
+	@DisplayName("읽은 뒤 다른 쓰기가 먼저 반영됐으면 compareAndSet은 잔고를 덮어쓰지 않고 null을 반환한다.")
+	void compareAndSetShouldRejectStaleRead() {
+		// given
+		long userId = 1L;
+		LedgerPointRepository ledger = (LedgerPointRepository)pointRepository;
+		ledger.saveOrUpdate(userId, 1_000L);
+		UserPoint stale = ledger.findById(userId);
+		ledger.saveOrUpdate(userId, 2_000L);
+
+		// when
+		UserPoint rejected = ledger.compareAndSet(userId, stale, 500L);
+		UserPoint accepted = ledger.compareAndSet(userId, ledger.findById(userId), 1_500L);
+
+		// then
+		assertAll(
+			() -> assertThat(rejected).isNull(),
+			() -> assertThat(accepted.point()).isEqualTo(1_500L),
+			() -> assertThat(ledger.findById(userId).point()).isEqualTo(1_500L)
+		);
+	}
+
+	@Test
+	@DisplayName("테이블 반영이 실패한 잔고는 다시 대기열에 들어가 다음 flush에서 반영된다.")
+	void shouldRetryFailedTableWrite() {
+		// given
+		long userId = 1L;
+		FailingOnceUserPointTable table = new FailingOnceUserPointTable();
+		LedgerPointRepository ledger = new LedgerPointRepository(table, new LedgerProperties(100));
+		ledger.saveOrUpdate(userId, 1_000L);
+
+		// when
+		assertThatThrownBy(ledger::flush).isInstanceOf(IllegalStateException.class);
+		int pendingAfterFailure = ledger.pendingCount();
+		ledger.flush();
+
+		// then
+		assertAll(
+			() -> assertThat(pendingAfterFailure).isEqualTo(1),
+			() -> assertThat(ledger.pendingCount()).isZero(),
+			() -> assertThat(table.selectById(userId).point()).isEqualTo(1_000L)
+		);
+	}
+
+	/**
+	 * 지연 없이 동작하고 처음 한 번의 insertOrUpdate만 실패한다.
+	 */
+	private static class FailingOnceUserPointTable extends UserPointTable {
+
+		private final Map<Long, UserPoint> table = new HashMap<>();
+		private boolean failed;
+
+		@Override
+		public UserPoint selectById(Long id) {
+			return table.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint insertOrUpdate(long id, long amount) {
+			if (!failed) {
+				failed = true;
+				throw new IllegalStateException("테이블에 쓰지 못했습니다.");
+			}
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			table.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {"point.lock.admission.max-queue-depth=2", "point.lock.admission.max-wait=1m"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class UserIdLockAdmissionTest {
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("한 사용자의 락 대기열이 max-queue-depth를 넘으면 기다리지 않고 UserIdLockRejectedException으로 거절한다.")
+	void shouldRejectWhenQueueIsFull() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 10;
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger rejectedCount = new AtomicInteger();
+
+		// when
+		runConcurrently(threadCount, () -> {
+			try {
+				pointService.chargePoint(userId, 100L);
+				successCount.incrementAndGet();
+			} catch (UserIdLockRejectedException e) {
+				rejectedCount.incrementAndGet();
+			}
+		});
+
+		// then
+		assertAll(
+			() -> assertThat(successCount.get() + rejectedCount.get()).isEqualTo(threadCount),
+			() -> assertThat(rejectedCount.get()).isPositive(),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(successCount.get() * 100L),
+			() -> assertThat(meterRegistry.get("point.lock.rejected").tag("reason", "queue-full").counter().count())
+				.isEqualTo(rejectedCount.get())
+		);
+	}
+
+	/**
+	 * 테이블 호출만으로도 수십 ms가 걸리므로, 먼저 락을 잡은 요청이 끝나기 전에 나머지는 1ms를 넘겨 기다리게 된다.
+	 */
+	@SpringBootTest(properties = {"point.lock.admission.max-queue-depth=100", "point.lock.admission.max-wait=1ms"})
+	@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+	static class TimeoutTest {
+
+		@Autowired
+		private PointService pointService;
+
+		@Autowired
+		private MeterRegistry meterRegistry;
+
+		@Test
+		@DisplayName("max-wait 안에 락을 얻지 못하면 UserIdLockRejectedException으로 거절한다.")
+		void shouldRejectWhenWaitTimesOut() throws InterruptedException {
+			// given
+			long userId = 1L;
+			int threadCount = 5;
+			AtomicInteger rejectedCount = new AtomicInteger();
+
+			// when
+			runConcurrently(threadCount, () -> {
+				try {
+					pointService.chargePoint(userId, 100L);
+				} catch (UserIdLockRejectedException e) {
+					rejectedCount.incrementAndGet();
+				}
+			});
+
+			// then
+			assertAll(
+				() -> assertThat(rejectedCount.get()).isPositive(),
+				() -> assertThat(meterRegistry.get("point.lock.rejected").tag("reason", "timeout").counter().count())
+					.isEqualTo(rejectedCount.get())
+			);
+		}
+	}
+
+	private static void runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					task.run();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		ready.countDown();
+		done.await();
+		executorService.shutdown();
+	}
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserIdLockMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final UserIdLockMetrics metrics = new UserIdLockMetrics(meterRegistry, new RefCountUserIdLockProvider());
+
+	@AfterEach
+	void tearDown() {
+		metrics.close();
+	}
+
+	@Test
+	@DisplayName("락을 얻고 놓으면 대기 시간과 점유 시간이 각각 point.lock.wait, point.lock.hold 타이머에 기록된다.")
+	void shouldRecordWaitAndHoldTimers() {
+		// given
+		long userId = 1L;
+		metrics.waiting(userId);
+
+		// when
+		metrics.acquired(userId, TimeUnit.MILLISECONDS.toNanos(5));
+		double heldWhileLocked = meterRegistry.get("point.lock.held").gauge().value();
+		metrics.released(TimeUnit.MILLISECONDS.toNanos(3));
+
+		// then
+		Timer waitTimer = meterRegistry.get("point.lock.wait").timer();
+		Timer holdTimer = meterRegistry.get("point.lock.hold").timer();
+		assertAll(
+			() -> assertThat(waitTimer.count()).isEqualTo(1),
+			() -> assertThat(waitTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0),
+			() -> assertThat(holdTimer.count()).isEqualTo(1),
+			() -> assertThat(holdTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0),
+			() -> assertThat(heldWhileLocked).isEqualTo(1.0),
+			() -> assertThat(meterRegistry.get("point.lock.held").gauge().value()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("대기열 길이는 사용자별 point.lock.queue.length 게이지로 드러나고, 대기열을 빠지면 줄어든다.")
+	void shouldReportQueueDepthPerUser() {
+		// given
+		metrics.waiting(1L);
+		metrics.waiting(1L);
+		metrics.waiting(2L);
+
+		// when
+		metrics.refreshHotUsers();
+		double firstUserDepth = queueDepthOf(1L);
+		double secondUserDepth = queueDepthOf(2L);
+
+		metrics.rejectedByTimeout(1L);
+		metrics.leave(2L);
+		metrics.refreshHotUsers();
+
+		// then
+		assertAll(
+			() -> assertThat(firstUserDepth).isEqualTo(2.0),
+			() -> assertThat(secondUserDepth).isEqualTo(1.0),
+			() -> assertThat(queueDepthOf(1L)).isEqualTo(1.0),
+			() -> assertThat(meterRegistry.find("point.lock.queue.length").tag("userId", "2").gauge()).isNull(),
+			() -> assertThat(meterRegistry.get("point.lock.rejected").tag("reason", "timeout").counter().count())
+				.isEqualTo(1.0)
+		);
+	}
+
+	private double queueDepthOf(long userId) {
+		return meterRegistry.get("point.lock.queue.length").tag("userId", Long.toString(userId)).gauge().value();
+	}
+}
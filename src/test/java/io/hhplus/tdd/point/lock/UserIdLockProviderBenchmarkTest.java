@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ./gradlew benchmark 로 실행한다. 결과는 표준 출력으로 남긴다.
+ * - heap : 서로 다른 userId 100만 개에 한 번씩 락을 건 뒤 남아있는 힙 사용량
+ * - ops/s : 스레드 16개가 userId 10만 개 중 임의의 id에 락을 걸고 푸는 처리량
+ */
+@Tag("benchmark")
+class UserIdLockProviderBenchmarkTest {
+
+	private static final int DISTINCT_USERS = 1_000_000;
+	private static final int HOT_USERS = 100_000;
+	private static final int THREADS = 16;
+	private static final long DURATION_MILLIS = 3_000;
+
+	@Test
+	@DisplayName("map / ref-count / striped 전략의 메모리 사용량과 처리량을 비교한다.")
+	void compareLockProviders() throws InterruptedException {
+		System.out.printf("%-10s %15s %15s%n", "strategy", "retained heap", "ops/s");
+		report("map", ConcurrentMapUserIdLockProvider::new);
+		report("ref-count", RefCountUserIdLockProvider::new);
+		report("striped", () -> new StripedUserIdLockProvider(new StripedLockProperties(1024)));
+	}
+
+	private void report(String name, Supplier<UserIdLockProvider> factory) throws InterruptedException {
+		long retainedBytes = measureRetainedHeap(factory.get());
+		long opsPerSecond = measureThroughput(factory.get());
+		System.out.printf("%-10s %12d KB %15d%n", name, retainedBytes / 1024, opsPerSecond);
+	}
+
+	private long measureRetainedHeap(UserIdLockProvider provider) {
+		long before = usedHeap();
+		for (long id = 1; id <= DISTINCT_USERS; id++) {
+			Lock lock = provider.getUserIdLock(id);
+			lock.lock();
+			lock.unlock();
+		}
+		long after = usedHeap();
+		// 측정하는 동안 provider가 수거되지 않도록 붙잡아 둔다.
+		provider.getUserIdLock(1L);
+		return Math.max(0, after - before);
+	}
+
+	private long measureThroughput(UserIdLockProvider provider) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch latch = new CountDownLatch(THREADS);
+		LongAdder operations = new LongAdder();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+		for (int i = 0; i < THREADS; i++) {
+			executorService.submit(() -> {
+				try {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					while (System.nanoTime() < deadline) {
+						Lock lock = provider.getUserIdLock(random.nextLong(1, HOT_USERS + 1));
+						lock.lock();
+						try {
+							operations.increment();
+						} finally {
+							lock.unlock();
+						}
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		return operations.sum() * 1_000 / DURATION_MILLIS;
+	}
+
+	private long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
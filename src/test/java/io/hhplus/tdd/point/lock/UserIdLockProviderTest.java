@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserIdLockProviderTest {
+
+	@Test
+	@DisplayName("ref-count 전략은 락을 해제한 뒤 더 이상 사용하는 스레드가 없으면 맵에서 락을 제거한다.")
+	void refCountProviderShouldEvictIdleLock() {
+		// given
+		RefCountUserIdLockProvider provider = new RefCountUserIdLockProvider();
+		Lock lock = provider.getUserIdLock(1L);
+
+		// when
+		lock.lock();
+		int sizeWhileLocked = provider.size();
+		lock.unlock();
+
+		// then
+		assertAll(
+			() -> assertThat(sizeWhileLocked).isEqualTo(1),
+			() -> assertThat(provider.size()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("ref-count 전략은 같은 스레드가 재진입해도 마지막 unlock 이후에만 락을 제거한다.")
+	void refCountProviderShouldSupportReentrancy() {
+		// given
+		RefCountUserIdLockProvider provider = new RefCountUserIdLockProvider();
+		Lock outer = provider.getUserIdLock(1L);
+		Lock inner = provider.getUserIdLock(1L);
+
+		// when
+		outer.lock();
+		inner.lock();
+		inner.unlock();
+		int sizeAfterInnerUnlock = provider.size();
+		outer.unlock();
+
+		// then
+		assertAll(
+			() -> assertThat(sizeAfterInnerUnlock).isEqualTo(1),
+			() -> assertThat(provider.size()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("ref-count 전략은 tryLock에 실패하면 참조를 남기지 않는다.")
+	void refCountProviderShouldReleaseOnFailedTryLock() throws InterruptedException {
+		// given
+		RefCountUserIdLockProvider provider = new RefCountUserIdLockProvider();
+		Lock owner = provider.getUserIdLock(1L);
+		owner.lock();
+
+		// when
+		boolean[] acquired = new boolean[1];
+		Thread other = new Thread(() -> acquired[0] = provider.getUserIdLock(1L).tryLock());
+		other.start();
+		other.join();
+		owner.unlock();
+
+		// then
+		assertAll(
+			() -> assertThat(acquired[0]).isFalse(),
+			() -> assertThat(provider.size()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("ref-count 전략으로 같은 userId에 1_000번 동시에 락을 걸어도 임계 영역은 한 번에 한 스레드만 들어가고 락은 모두 제거된다.")
+	void refCountProviderShouldGuaranteeMutualExclusion() throws InterruptedException {
+		// given
+		RefCountUserIdLockProvider provider = new RefCountUserIdLockProvider();
+		int threadCount = 1_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		long[] counter = new long[1];
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				Lock lock = provider.getUserIdLock(1L);
+				lock.lock();
+				try {
+					counter[0]++;
+				} finally {
+					lock.unlock();
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(counter[0]).isEqualTo(threadCount),
+			() -> assertThat(provider.size()).isZero()
+		);
+	}
+
+	@Test
+	@DisplayName("striped 전략은 stripes를 2의 거듭제곱으로 올림하고 같은 userId에는 항상 같은 락을 돌려준다.")
+	void stripedProviderShouldRoundUpAndBeStable() {
+		// given
+		StripedUserIdLockProvider provider = new StripedUserIdLockProvider(new StripedLockProperties(1000));
+
+		// when
+		Lock first = provider.getUserIdLock(42L);
+		Lock second = provider.getUserIdLock(42L);
+
+		// then
+		assertAll(
+			() -> assertThat(provider.size()).isEqualTo(1024),
+			() -> assertThat(first).isSameAs(second)
+		);
+	}
+
+	@Test
+	@DisplayName("striped 전략은 연속된 userId를 여러 스트라이프에 고르게 나눈다.")
+	void stripedProviderShouldSpreadSequentialIds() {
+		// given
+		StripedUserIdLockProvider provider = new StripedUserIdLockProvider(new StripedLockProperties(16));
+		int[] buckets = new int[provider.size()];
+
+		// when
+		for (long id = 1; id <= 16_000; id++) {
+			buckets[provider.indexOf(id)]++;
+		}
+
+		// then
+		for (int bucket : buckets) {
+			assertThat(bucket).isBetween(800, 1_200);
+		}
+	}
+
+	@Test
+	@DisplayName("striped 전략의 락 순서는 userId가 아니라 스트라이프 위치를 따르고, 같은 스트라이프의 userId는 하나만 남긴다.")
+	void stripedProviderShouldOrderByStripe() {
+		// given
+		StripedUserIdLockProvider provider = new StripedUserIdLockProvider(new StripedLockProperties(1024));
+		long sameStripeAsOne = 2L;
+		while (provider.indexOf(sameStripeAsOne) != provider.indexOf(1L)) {
+			sameStripeAsOne++;
+		}
+
+		// when
+		long[] crossing = provider.inLockOrder(1L, 2L);
+		long[] shared = provider.inLockOrder(1L, sameStripeAsOne);
+
+		// then
+		assertAll(
+			() -> assertThat(provider.indexOf(1L)).isGreaterThan(provider.indexOf(2L)),
+			() -> assertThat(crossing).containsExactly(2L, 1L),
+			() -> assertThat(shared).hasSize(1)
+		);
+	}
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointRepositoryImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RepositoryLatencyAspectTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("저장소 메서드를 부르면 구현체와 메서드 이름 태그가 붙은 point.repository.latency 타이머에 기록된다.")
+	void shouldRecordRepositoryLatency() {
+		// given
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new PointRepositoryImpl(new UserPointTable()));
+		proxyFactory.addAspect(new RepositoryLatencyAspect(meterRegistry));
+		PointRepository pointRepository = proxyFactory.getProxy();
+
+		// when
+		pointRepository.saveOrUpdate(1L, 1_000L);
+		pointRepository.findById(1L);
+		pointRepository.findById(1L);
+
+		// then
+		assertAll(
+			() -> assertThat(latencyTimerOf("saveOrUpdate").count()).isEqualTo(1),
+			() -> assertThat(latencyTimerOf("findById").count()).isEqualTo(2),
+			() -> assertThat(latencyTimerOf("findById").totalTime(TimeUnit.NANOSECONDS)).isPositive()
+		);
+	}
+
+	private Timer latencyTimerOf(String method) {
+		return meterRegistry.get("point.repository.latency")
+			.tag("repository", "PointRepositoryImpl")
+			.tag("method", method)
+			.timer();
+	}
+}
@@ -0,0 +1,240 @@
+package io.hhplus.tdd.point.partition;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointCommandApplier;
+import io.hhplus.tdd.point.PointCommandExecutor;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointTransferResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+import io.hhplus.tdd.point.wal.NoOpPointJournal;
+
+@SpringBootTest(properties = {"point.write-mode=partition", "point.partition.partitions=4"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class PartitionedPointCommandExecutorTest {
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointCommandExecutor pointCommandExecutor;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Test
+	@DisplayName("point.write-mode가 partition이면 PartitionedPointCommandExecutor가 사용된다.")
+	void shouldUsePartitionedExecutor() {
+		assertThat(pointCommandExecutor).isInstanceOf(PartitionedPointCommandExecutor.class);
+	}
+
+	@Test
+	@DisplayName("0 포인트를 가진 사용자에게 100 포인트 충전 요청이 20개 동시에 들어오면 포인트는 2_000이 되고 이력도 20개가 남는다.")
+	void chargePointConcurrencyTest() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 20;
+		pointRepository.saveOrUpdate(userId, 0L);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.chargePoint(userId, 100L);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		UserPoint findUserPoint = pointRepository.findById(userId);
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(findUserPoint.point()).isEqualTo(2_000L),
+			() -> assertThat(histories).hasSize(threadCount)
+		);
+	}
+
+	@Test
+	@DisplayName("한도를 넘는 요청만 IllegalArgumentException으로 거절되고 나머지는 반영된다.")
+	void shouldRejectOnlyOverLimitCommands() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int threadCount = 10;
+		pointRepository.saveOrUpdate(userId, 10_000L);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		AtomicInteger successCount = new AtomicInteger(0);
+		List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.usePoint(userId, 2_000L);
+					successCount.incrementAndGet();
+				} catch (Exception e) {
+					exceptions.add(e);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		UserPoint findUserPoint = pointRepository.findById(userId);
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(userId);
+		assertAll(
+			() -> assertThat(findUserPoint.point()).isEqualTo(0L),
+			() -> assertThat(successCount.get()).isEqualTo(5),
+			() -> assertThat(exceptions).hasSize(5)
+				.allMatch(IllegalArgumentException.class::isInstance),
+			() -> assertThat(histories).hasSize(5)
+				.allMatch(history -> history.type() == TransactionType.USE)
+		);
+	}
+
+	@Test
+	@DisplayName("submit은 호출한 스레드를 막지 않고 CompletableFuture로 결과를 돌려준다.")
+	void shouldCompleteFutureOnPartitionThread() {
+		// given
+		long userId = 1L;
+
+		// when
+		List<CompletableFuture<UserPoint>> futures = List.of(
+			pointCommandExecutor.submit(userId, PointCommand.charge(1_000L)),
+			pointCommandExecutor.submit(userId, PointCommand.use(300L)),
+			pointCommandExecutor.submit(userId, PointCommand.use(1_000L))
+		);
+
+		// then
+		assertAll(
+			() -> assertThat(futures.get(0).join().point()).isEqualTo(1_000L),
+			() -> assertThat(futures.get(1).join().point()).isEqualTo(700L),
+			() -> assertThatThrownBy(() -> futures.get(2).join()).hasCauseInstanceOf(IllegalArgumentException.class),
+			() -> assertThat(pointRepository.findById(userId).point()).isEqualTo(700L)
+		);
+	}
+
+	@Test
+	@DisplayName("서로 다른 파티션의 두 사용자가 동시에 서로에게 이체해도 교착 없이 끝나고 두 사용자의 포인트 합은 유지된다.")
+	void crossingTransfersBetweenPartitions() {
+		// given
+		PartitionedPointCommandExecutor executor = (PartitionedPointCommandExecutor)pointCommandExecutor;
+		long userA = 1L;
+		long userB = LongStream.rangeClosed(2L, 100L)
+			.filter(id -> executor.partitionOf(id) != executor.partitionOf(userA))
+			.findFirst()
+			.orElseThrow();
+		pointRepository.saveOrUpdate(userA, 10_000L);
+		pointRepository.saveOrUpdate(userB, 10_000L);
+
+		// when
+		List<CompletableFuture<PointTransferResult>> futures = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			futures.add(executor.submitTransfer(userA, userB, 1_000L));
+			futures.add(executor.submitTransfer(userB, userA, 1_000L));
+		}
+
+		// then
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		});
+		assertAll(
+			() -> assertThat(pointRepository.findById(userA).point()).isEqualTo(10_000L),
+			() -> assertThat(pointRepository.findById(userB).point()).isEqualTo(10_000L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(userA)).hasSize(10),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(userB)).hasSize(10)
+		);
+	}
+
+	@Test
+	@DisplayName("반영 중에 Error가 나도 그 요청만 실패하고, 파티션 스레드는 살아 있어 다음 요청을 처리한다.")
+	void shouldKeepPartitionAliveOnError() {
+		// given
+		long userId = 1L;
+		PartitionedPointCommandExecutor executor = new PartitionedPointCommandExecutor(
+			new PointCommandApplier(new FailingOncePointRepository(), new IndexedPointHistoryRepository(),
+				new NoOpPointJournal(), new PointSummaryRepository()),
+			new PartitionProperties(1, 100));
+
+		// when
+		CompletableFuture<UserPoint> failed = executor.submit(userId, PointCommand.charge(1_000L));
+		Throwable failure = catchThrowable(() -> failed.get(5, TimeUnit.SECONDS));
+		CompletableFuture<UserPoint> retried = executor.submit(userId, PointCommand.charge(1_000L));
+		CompletableFuture<PointTransferResult> transfer = executor.submitTransfer(userId, 2L, 500L);
+
+		// then
+		assertAll(
+			() -> assertThat(failure).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(StackOverflowError.class),
+			() -> assertThat(retried.get(5, TimeUnit.SECONDS).point()).isEqualTo(1_000L),
+			() -> assertThat(transfer.get(5, TimeUnit.SECONDS).to().point()).isEqualTo(500L)
+		);
+		executor.close();
+	}
+
+	/**
+	 * 처음 한 번은 잔고를 읽을 때 Error를 던지고, 그 뒤로는 메모리에 잔고를 둔다.
+	 */
+	private static class FailingOncePointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+		private final AtomicBoolean failed = new AtomicBoolean();
+
+		@Override
+		public UserPoint findById(long id) {
+			if (failed.compareAndSet(false, true)) {
+				throw new StackOverflowError("잔고를 읽지 못했습니다.");
+			}
+			return points.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
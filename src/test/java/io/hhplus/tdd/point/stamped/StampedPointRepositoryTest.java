@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.stamped;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.UserPoint;
+
+class StampedPointRepositoryTest {
+
+	@Test
+	@DisplayName("처음 조회할 때만 저장소를 읽고, 이후 조회와 저장 뒤 조회는 메모리의 잔고를 반환한다.")
+	void shouldLoadOnceAndServeFromSlot() {
+		// given
+		CountingPointRepository store = new CountingPointRepository();
+		store.saveOrUpdate(1L, 1_000L);
+		StampedPointRepository repository = new StampedPointRepository(store);
+
+		// when
+		UserPoint first = repository.findById(1L);
+		UserPoint second = repository.findById(1L);
+		repository.saveOrUpdate(1L, 3_000L);
+		UserPoint afterWrite = repository.findById(1L);
+
+		// then
+		assertAll(
+			() -> assertThat(first.point()).isEqualTo(1_000L),
+			() -> assertThat(second.point()).isEqualTo(1_000L),
+			() -> assertThat(afterWrite.point()).isEqualTo(3_000L),
+			() -> assertThat(store.selectCount.get()).isEqualTo(1)
+		);
+	}
+
+	@Test
+	@DisplayName("쓰기와 조회가 동시에 일어나도 조회는 이미 반환된 쓰기보다 오래된 잔고를 보지 않고, 한 스레드가 본 잔고는 줄어들지 않는다.")
+	void readsShouldBeLinearizableWithWrites() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int writes = 100_000;
+		int readerCount = 8;
+		StampedPointRepository repository = new StampedPointRepository(new CountingPointRepository());
+		repository.saveOrUpdate(userId, 0L);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(readerCount + 1);
+		CountDownLatch latch = new CountDownLatch(readerCount + 1);
+		List<String> violations = Collections.synchronizedList(new ArrayList<>());
+		// 쓰기 스레드가 saveOrUpdate를 마친 마지막 잔고
+		AtomicInteger lastWritten = new AtomicInteger();
+
+		// when
+		executorService.submit(() -> {
+			try {
+				for (int i = 1; i <= writes; i++) {
+					repository.saveOrUpdate(userId, i);
+					lastWritten.set(i);
+				}
+			} finally {
+				latch.countDown();
+			}
+		});
+		for (int r = 0; r < readerCount; r++) {
+			executorService.submit(() -> {
+				try {
+					long previous = 0;
+					while (lastWritten.get() < writes) {
+						long floor = lastWritten.get();
+						UserPoint read = repository.findById(userId);
+						if (read.point() < floor || read.point() < previous) {
+							violations.add("floor=%d previous=%d read=%d".formatted(floor, previous, read.point()));
+						}
+						previous = read.point();
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(violations).isEmpty(),
+			() -> assertThat(repository.findById(userId).point()).isEqualTo(writes)
+		);
+	}
+
+	private static class CountingPointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+		private final AtomicInteger selectCount = new AtomicInteger();
+
+		@Override
+		public UserPoint findById(long id) {
+			selectCount.incrementAndGet();
+			return points.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.summary;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.client.RestClient;
+
+import io.hhplus.tdd.point.PointHistoryRepository;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class PointSummaryControllerE2ETest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	PointHistoryRepository pointHistoryRepository;
+
+	RestClient restClient;
+
+	@BeforeEach
+	void setUp() {
+		restClient = RestClient.builder()
+			.baseUrl("http://localhost:" + port)
+			.build();
+	}
+
+	@Test
+	@DisplayName("충전과 사용이 성공할 때마다 GET /point/{id}/summary의 누계가 갱신된다.")
+	void summaryShouldFollowChargeAndUse() {
+		// given
+		long userId = 1L;
+		UserPoint charged = patch("/point/" + userId + "/charge", 1_000L);
+		patch("/point/" + userId + "/charge", 500L);
+		UserPoint used = patch("/point/" + userId + "/use", 300L);
+
+		// when
+		ResponseEntity<PointSummary> response = restClient.get()
+			.uri("/point/" + userId + "/summary")
+			.retrieve()
+			.toEntity(PointSummary.class);
+
+		// then
+		assertAll(
+			() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+			() -> assertThat(response.getBody())
+				.extracting(PointSummary::userId, PointSummary::totalCharged, PointSummary::totalUsed,
+					PointSummary::transactionCount)
+				.containsExactly(userId, 1_500L, 300L, 3L),
+			() -> assertThat(response.getBody().lastActivityMillis())
+				.isGreaterThanOrEqualTo(charged.updateMillis())
+				.isEqualTo(used.updateMillis())
+		);
+	}
+
+	@Test
+	@DisplayName("이력만 저장된 사용자는 POST /point/{id}/summary/rebuild 로 이력에서 누계를 다시 계산한다.")
+	void rebuildShouldSummarizeExistingHistories() {
+		// given
+		long userId = 1L;
+		pointHistoryRepository.saveUserPoint(userId, 1_000L, TransactionType.CHARGE, 1_000L);
+		pointHistoryRepository.saveUserPoint(userId, 200L, TransactionType.USE, 2_000L);
+		pointHistoryRepository.saveUserPoint(2L, 700L, TransactionType.CHARGE, 3_000L);
+
+		// when
+		PointSummary before = restClient.get()
+			.uri("/point/" + userId + "/summary")
+			.retrieve()
+			.body(PointSummary.class);
+		PointSummary rebuilt = restClient.post()
+			.uri("/point/" + userId + "/summary/rebuild")
+			.retrieve()
+			.body(PointSummary.class);
+
+		// then
+		assertAll(
+			() -> assertThat(before).isEqualTo(PointSummary.empty(userId)),
+			() -> assertThat(rebuilt).isEqualTo(new PointSummary(userId, 1_000L, 200L, 2L, 2_000L))
+		);
+	}
+
+	private UserPoint patch(String uri, long amount) {
+		return restClient.patch()
+			.uri(uri)
+			.body(amount)
+			.retrieve()
+			.body(UserPoint.class);
+	}
+}
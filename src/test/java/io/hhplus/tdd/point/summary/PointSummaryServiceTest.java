@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.summary;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.wal.PointJournalEntry;
+
+class PointSummaryServiceTest {
+
+	private final PointSummaryRepository pointSummaryRepository = new PointSummaryRepository();
+	private final ColumnarPointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository();
+	private final PointSummaryService pointSummaryService = new PointSummaryService(pointSummaryRepository,
+		pointHistoryRepository);
+
+	@Test
+	@DisplayName("record는 이력을 남기고 같은 변경을 누계에 더한다.")
+	void recordShouldAccumulate() {
+		// given
+		long userId = 1L;
+
+		// when
+		record(userId, TransactionType.CHARGE, 1_000L, 10L);
+		record(userId, TransactionType.USE, 400L, 20L);
+
+		// then
+		assertThat(pointSummaryService.findPointSummaryOfUser(userId))
+			.isEqualTo(new PointSummary(userId, 1_000L, 400L, 2L, 20L));
+		assertThat(pointHistoryRepository.findAllHistoryByUserId(userId)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("반영과 재계산이 동시에 일어나도 누계는 저장된 이력과 같다.")
+	void rebuildShouldNotDoubleCountConcurrentRecords() throws InterruptedException {
+		// given
+		long userId = 1L;
+		int records = 5_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		CountDownLatch latch = new CountDownLatch(2);
+
+		// when
+		executorService.submit(() -> {
+			try {
+				for (int i = 1; i <= records; i++) {
+					record(userId, TransactionType.CHARGE, 1L, i);
+				}
+			} finally {
+				latch.countDown();
+			}
+		});
+		executorService.submit(() -> {
+			try {
+				for (int i = 0; i < 50; i++) {
+					pointSummaryService.rebuildPointSummaryOfUser(userId);
+				}
+			} finally {
+				latch.countDown();
+			}
+		});
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		assertThat(pointSummaryService.findPointSummaryOfUser(userId))
+			.isEqualTo(new PointSummary(userId, records, 0L, records, records))
+			.isEqualTo(pointSummaryService.rebuildPointSummaryOfUser(userId));
+	}
+
+	private void record(long userId, TransactionType type, long amount, long updateMillis) {
+		PointJournalEntry entry = new PointJournalEntry(userId, type, amount, 0L, updateMillis);
+		pointSummaryRepository.record(userId, List.of(entry),
+			() -> pointHistoryRepository.saveUserPoint(userId, amount, type, updateMillis));
+	}
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.wal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import io.hhplus.tdd.point.PointRepository;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+
+/**
+ * ./gradlew benchmark 로 실행한다.
+ * WAL 레코드 수를 늘려가며 다시 시작하는 데 걸리는 시간을 잰다.
+ * - replay : 스냅샷 없이 모든 세그먼트를 재생한다.
+ * - snapshot : 스냅샷을 불러오고 그 뒤에 쌓인 1%만 재생한다.
+ * 테이블 지연이 재시작 시간을 가리지 않도록 메모리 저장소를 쓴다.
+ */
+@Tag("benchmark")
+class WalRestartBenchmarkTest {
+
+	private static final int[] RECORDS = {100_000, 1_000_000, 5_000_000};
+	private static final int USERS = 10_000;
+	private static final int BATCH = 1_000;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("스냅샷이 있으면 재시작할 때 세그먼트를 처음부터 재생하지 않는다.")
+	void compareRestartTime() {
+		System.out.printf("%-10s %12s %15s%n", "mode", "records", "restart(ms)");
+		for (int records : RECORDS) {
+			WalProperties properties = new WalProperties(true, directory.resolve(String.valueOf(records)).toString(),
+				DataSize.ofMegabytes(8), BATCH, Duration.ofMillis(5), Duration.ofHours(1), 1000);
+
+			WriteAheadLog writeAheadLog = restart(properties);
+			append(writeAheadLog, records);
+			writeAheadLog.close();
+			System.out.printf("%-10s %12d %15d%n", "replay", records, measure(properties));
+
+			writeAheadLog = restart(properties);
+			writeAheadLog.snapshot();
+			append(writeAheadLog, records / 100);
+			writeAheadLog.close();
+			System.out.printf("%-10s %12d %15d%n", "snapshot", records, measure(properties));
+		}
+	}
+
+	private void append(WriteAheadLog writeAheadLog, int records) {
+		List<PointJournalEntry> batch = new ArrayList<>(BATCH);
+		for (int i = 0; i < records; i++) {
+			batch.add(new PointJournalEntry(i % USERS + 1, TransactionType.CHARGE, 1L, i / USERS + 1, i));
+			if (batch.size() == BATCH) {
+				writeAheadLog.append(batch);
+				batch.clear();
+			}
+		}
+		writeAheadLog.append(batch);
+	}
+
+	private long measure(WalProperties properties) {
+		long start = System.nanoTime();
+		WriteAheadLog writeAheadLog = restart(properties);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		writeAheadLog.close();
+		return elapsedMillis;
+	}
+
+	private WriteAheadLog restart(WalProperties properties) {
+		WriteAheadLog writeAheadLog = new WriteAheadLog(properties, new InMemoryPointRepository(),
+			new ColumnarPointHistoryRepository(), new PointSummaryRepository());
+		writeAheadLog.start();
+		return writeAheadLog;
+	}
+
+	private static final class InMemoryPointRepository implements PointRepository {
+
+		private final ConcurrentHashMap<Long, UserPoint> points = new ConcurrentHashMap<>();
+
+		@Override
+		public UserPoint findById(long id) {
+			return points.getOrDefault(id, UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint saveOrUpdate(long id, long amount) {
+			UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+			points.put(id, userPoint);
+			return userPoint;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package io.hhplus.tdd.point.wal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointRepositoryImpl;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.summary.PointSummary;
+import io.hhplus.tdd.point.summary.PointSummaryRepository;
+
+class WriteAheadLogTest {
+
+	private final long FIXED_TIME = System.currentTimeMillis();
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("WAL에 기록한 충전/사용은 다시 시작할 때 재생되어 잔고와 이력이 복구된다.")
+	void shouldRebuildBalancesAndHistoriesOnRestart() {
+		// given
+		// 세그먼트 하나에 레코드 4건만 들어가도록 해서 여러 세그먼트에 걸쳐 기록되게 한다.
+		WalProperties properties = properties(DataSize.ofBytes(WalRecord.SIZE * 4L));
+		WriteAheadLog writeAheadLog = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository());
+		writeAheadLog.append(List.of(
+			new PointJournalEntry(1L, TransactionType.CHARGE, 1000L, 1000L, FIXED_TIME),
+			new PointJournalEntry(1L, TransactionType.USE, 300L, 700L, FIXED_TIME + 1)
+		));
+		for (long i = 1; i <= 10; i++) {
+			writeAheadLog.append(List.of(new PointJournalEntry(2L, TransactionType.CHARGE, 10L, i * 10L, FIXED_TIME + i)));
+		}
+		writeAheadLog.close();
+
+		// when
+		PointRepositoryImpl pointRepository = new PointRepositoryImpl(new UserPointTable());
+		IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+		WriteAheadLog reopened = open(properties, pointRepository, pointHistoryRepository);
+		reopened.close();
+
+		// then
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(1L);
+		assertAll(
+			() -> assertThat(reopened.appendedSeq()).isEqualTo(12L),
+			() -> assertThat(pointRepository.findById(1L).point()).isEqualTo(700L),
+			() -> assertThat(pointRepository.findById(2L).point()).isEqualTo(100L),
+			() -> assertThat(histories).extracting(PointHistory::type)
+				.containsExactly(TransactionType.CHARGE, TransactionType.USE),
+			() -> assertThat(histories).extracting(PointHistory::updateMillis).containsExactly(FIXED_TIME, FIXED_TIME + 1),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(2L)).hasSize(10)
+		);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 기록해도 모든 기록이 순번 빠짐없이 남고, append는 디스크에 내려간 뒤에 반환된다.")
+	void shouldGroupConcurrentAppends() throws InterruptedException {
+		// given
+		WalProperties properties = properties(DataSize.ofMegabytes(1));
+		WriteAheadLog writeAheadLog = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository());
+		int appendCount = 1_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+		CountDownLatch latch = new CountDownLatch(appendCount);
+
+		// when
+		for (int i = 0; i < appendCount; i++) {
+			long userId = i % 10 + 1;
+			executorService.submit(() -> {
+				try {
+					writeAheadLog.append(List.of(new PointJournalEntry(userId, TransactionType.CHARGE, 1L, 1L, FIXED_TIME)));
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		writeAheadLog.close();
+
+		// then
+		IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+		WriteAheadLog reopened = open(properties, new PointRepositoryImpl(new UserPointTable()), pointHistoryRepository);
+		reopened.close();
+		assertAll(
+			() -> assertThat(reopened.appendedSeq()).isEqualTo(appendCount),
+			() -> assertThat(pointHistoryRepository.count()).isEqualTo(appendCount)
+		);
+	}
+
+	@Test
+	@DisplayName("스냅샷을 만들면 다 쓴 세그먼트가 지워지고, 다시 시작할 때 스냅샷과 그 이후 기록으로 잔고와 이력이 복구된다.")
+	void shouldRecoverFromSnapshotAndTail() throws IOException {
+		// given
+		WalProperties properties = properties(DataSize.ofBytes(WalRecord.SIZE * 4L));
+		WriteAheadLog writeAheadLog = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository());
+		for (long i = 1; i <= 10; i++) {
+			writeAheadLog.append(List.of(new PointJournalEntry(1L, TransactionType.CHARGE, 10L, i * 10L, FIXED_TIME + i)));
+		}
+		long coveredSeq = writeAheadLog.snapshot();
+		writeAheadLog.append(List.of(new PointJournalEntry(1L, TransactionType.USE, 30L, 70L, FIXED_TIME + 11)));
+		writeAheadLog.close();
+
+		// when
+		PointRepositoryImpl pointRepository = new PointRepositoryImpl(new UserPointTable());
+		IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+		WriteAheadLog reopened = open(properties, pointRepository, pointHistoryRepository);
+		reopened.close();
+
+		// then
+		List<String> segments = segmentNames(directory);
+		List<String> archived = segmentNames(directory.resolve("archive"));
+		List<PointHistory> histories = pointHistoryRepository.findAllHistoryByUserId(1L);
+		assertAll(
+			// 세그먼트마다 4건씩이므로 1 ~ 8번 레코드가 든 두 세그먼트가 스냅샷에 합쳐진다.
+			() -> assertThat(coveredSeq).isEqualTo(8L),
+			() -> assertThat(segments).doesNotContain("%020d.wal".formatted(1), "%020d.wal".formatted(5)),
+			() -> assertThat(archived).containsExactly("%020d.wal".formatted(1), "%020d.wal".formatted(5)),
+			() -> assertThat(reopened.appendedSeq()).isEqualTo(11L),
+			() -> assertThat(pointRepository.findById(1L).point()).isEqualTo(70L),
+			() -> assertThat(histories).hasSize(11),
+			() -> assertThat(histories.get(10).type()).isEqualTo(TransactionType.USE)
+		);
+	}
+
+	@Test
+	@DisplayName("스냅샷에는 사용자마다 최근 historyRetention 건의 이력만 남아, 다시 시작할 때 그만큼만 복구된다.")
+	void shouldRetainRecentHistoriesInSnapshot() throws IOException {
+		// given
+		WalProperties properties = properties(DataSize.ofBytes(WalRecord.SIZE * 4L), 3);
+		WriteAheadLog writeAheadLog = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository());
+		for (long i = 1; i <= 12; i++) {
+			writeAheadLog.append(List.of(new PointJournalEntry(1L, TransactionType.CHARGE, i, i * (i + 1) / 2,
+				FIXED_TIME + i)));
+		}
+		long coveredSeq = writeAheadLog.snapshot();
+		writeAheadLog.close();
+		long snapshotSize;
+		try (Stream<Path> files = Files.list(directory)) {
+			snapshotSize = Files.size(files.filter(path -> path.toString().endsWith(".snap")).findFirst().orElseThrow());
+		}
+
+		// when
+		PointRepositoryImpl pointRepository = new PointRepositoryImpl(new UserPointTable());
+		IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+		WriteAheadLog reopened = open(properties, pointRepository, pointHistoryRepository);
+		reopened.close();
+
+		// then
+		assertAll(
+			// 1 ~ 8번 레코드가 스냅샷에 합쳐지고, 그중 최근 3건(6, 7, 8)과 스냅샷 이후 9 ~ 12번이 복구된다.
+			() -> assertThat(coveredSeq).isEqualTo(8L),
+			// 헤더 16바이트 + 사용자 1명 52바이트 + 보관한 이력 3건 x 17바이트
+			() -> assertThat(snapshotSize).isEqualTo(16L + 52L + 3 * 17L),
+			() -> assertThat(pointRepository.findById(1L).point()).isEqualTo(78L),
+			() -> assertThat(pointHistoryRepository.findAllHistoryByUserId(1L)).extracting(PointHistory::amount)
+				.containsExactly(6L, 7L, 8L, 9L, 10L, 11L, 12L),
+			() -> assertThat(segmentNames(directory.resolve("archive"))).hasSize(2)
+		);
+	}
+
+	@Test
+	@DisplayName("다시 시작하면 스냅샷에 담긴 누계와 그 이후 기록으로 사용자별 충전/사용 누계도 복구된다.")
+	void shouldRestoreSummariesOnRestart() {
+		// given
+		// 스냅샷에는 최근 이력 1건만 남기므로, 누계를 이력에서 다시 계산하면 맞지 않는다.
+		WalProperties properties = properties(DataSize.ofBytes(WalRecord.SIZE * 4L), 1);
+		WriteAheadLog writeAheadLog = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository());
+		writeAheadLog.append(List.of(
+			new PointJournalEntry(1L, TransactionType.CHARGE, 1000L, 1000L, FIXED_TIME),
+			new PointJournalEntry(1L, TransactionType.USE, 300L, 700L, FIXED_TIME + 1),
+			new PointJournalEntry(2L, TransactionType.CHARGE, 500L, 500L, FIXED_TIME + 2),
+			new PointJournalEntry(1L, TransactionType.CHARGE, 200L, 900L, FIXED_TIME + 3)
+		));
+		writeAheadLog.append(List.of(new PointJournalEntry(2L, TransactionType.CHARGE, 100L, 600L, FIXED_TIME + 4)));
+		writeAheadLog.snapshot();
+		writeAheadLog.append(List.of(new PointJournalEntry(1L, TransactionType.USE, 100L, 800L, FIXED_TIME + 5)));
+		writeAheadLog.close();
+
+		// when
+		PointSummaryRepository pointSummaryRepository = new PointSummaryRepository();
+		WriteAheadLog reopened = open(properties, new PointRepositoryImpl(new UserPointTable()),
+			new IndexedPointHistoryRepository(), pointSummaryRepository);
+		reopened.close();
+
+		// then
+		assertAll(
+			() -> assertThat(pointSummaryRepository.findByUserId(1L))
+				.isEqualTo(new PointSummary(1L, 1200L, 400L, 4L, FIXED_TIME + 5)),
+			() -> assertThat(pointSummaryRepository.findByUserId(2L))
+				.isEqualTo(new PointSummary(2L, 600L, 0L, 2L, FIXED_TIME + 4))
+		);
+	}
+
+	private List<String> segmentNames(Path path) throws IOException {
+		try (Stream<Path> files = Files.list(path)) {
+			return files.map(file -> file.getFileName().toString())
+				.filter(name -> name.endsWith(".wal"))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private WalProperties properties(DataSize segmentSize) {
+		return properties(segmentSize, 1000);
+	}
+
+	private WalProperties properties(DataSize segmentSize, int historyRetention) {
+		// 스냅샷은 테스트에서 직접 만든다.
+		return new WalProperties(true, directory.toString(), segmentSize, 10, Duration.ofMillis(5), Duration.ofHours(1),
+			historyRetention);
+	}
+
+	private WriteAheadLog open(WalProperties properties, PointRepositoryImpl pointRepository,
+		IndexedPointHistoryRepository pointHistoryRepository) {
+		return open(properties, pointRepository, pointHistoryRepository, new PointSummaryRepository());
+	}
+
+	private WriteAheadLog open(WalProperties properties, PointRepositoryImpl pointRepository,
+		IndexedPointHistoryRepository pointHistoryRepository, PointSummaryRepository pointSummaryRepository) {
+		WriteAheadLog writeAheadLog = new WriteAheadLog(properties, pointRepository, pointHistoryRepository,
+			pointSummaryRepository);
+		writeAheadLog.start();
+		return writeAheadLog;
+	}
+}